@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드(기본 Tomcat 워커 200개)와 가상 스레드 실행 모드의 처리량/지연 시간을 비교합니다.
+# 준비: JDK 21, MariaDB(application.properties의 bookstore DB), hey(https://github.com/rakyll/hey)
+# 사용법: ./load-test/thread-mode-comparison.sh [동시 요청 수] [요청 수]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CONCURRENCY=${1:-500}
+REQUESTS=${2:-50000}
+BASE_URL=http://localhost:8081/api/books
+
+./mvnw -q -Pvirtual-threads -DskipTests package
+JAR=$(ls target/MySpringBootLab-*.jar | head -n 1)
+
+run() {
+  local label=$1 profiles=$2
+  java -jar "$JAR" --spring.profiles.active="$profiles" > "target/load-$label.log" 2>&1 &
+  local pid=$!
+  until curl -sf http://localhost:8081/actuator/health > /dev/null; do sleep 1; done
+
+  # 단건 조회 대상: 목록 첫 페이지의 첫 도서
+  local book_id
+  book_id=$(curl -sf "$BASE_URL?size=1" | grep -o '"id":[0-9]*' | head -n 1 | cut -d: -f2)
+
+  # 워밍업 후 측정 (목록 페이지 + 단건 조회)
+  for path in "?size=20" "/$book_id"; do
+    hey -z 10s -c 50 "$BASE_URL$path" > /dev/null
+    echo "=== $label : GET /api/books$path (c=$CONCURRENCY, n=$REQUESTS)"
+    hey -n "$REQUESTS" -c "$CONCURRENCY" "$BASE_URL$path" | grep -E "Requests/sec|Average|99%|Status code|\[[0-9]+\]"
+  done
+
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+}
+
+run platform prod
+run virtual prod,virtual
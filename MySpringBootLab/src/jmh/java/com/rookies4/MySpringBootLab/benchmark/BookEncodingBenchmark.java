@@ -0,0 +1,95 @@
+package com.rookies4.MySpringBootLab.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import com.rookies4.MySpringBootLab.web.BookColumnarHttpMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 도서 목록 응답 인코딩별 직렬화 시간 비교 (페이로드 크기는 Setup에서 원본/gzip 바이트 수로 출력)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookEncodingBenchmark {
+
+    @Param({"json", "columnar", "cbor", "smile"})
+    private String encoding;
+
+    @Param({"20", "100"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper objectMapper;
+    private BookColumnarHttpMessageConverter columnarConverter;
+    private List<BookDTO.BookResponse> responses;
+
+    @Setup
+    public void setUp() throws IOException {
+        responses = BookFixtures.responses(size);
+        objectMapper = mapper(switch (encoding) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        });
+        columnarConverter = new BookColumnarHttpMessageConverter(objectMapper.getFactory());
+
+        byte[] raw = encodeRaw();
+        System.out.printf("%n[payload] encoding=%s size=%d : %d bytes, gzip %d bytes%n",
+                encoding, size, raw.length, gzip(raw).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        byte[] raw = encodeRaw();
+        return gzip ? gzip(raw) : raw;
+    }
+
+    private byte[] encodeRaw() throws IOException {
+        if (encoding.equals("columnar")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            columnarConverter.write(responses, out);
+            return out.toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    // Spring Boot 기본 ObjectMapper와 동일하게 LocalDate를 ISO 문자열로 직렬화
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,56 @@
+package com.rookies4.MySpringBootLab.benchmark;
+
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 도서 데이터 생성기
+final class BookFixtures {
+
+    private BookFixtures() {
+    }
+
+    static Book book(long id) {
+        Book book = new Book("스프링 부트 실전 " + id, "홍길동", isbn(id), 30000 + (int) (id % 1000), LocalDate.of(2024, 1, 1).plusDays(id % 365));
+        book.setId(id);
+        BookDetail detail = new BookDetail("스프링 부트와 JPA로 만드는 REST API 입문서입니다. ".repeat(8), "한국어", 420,
+                "한빛미디어", "https://img.example.com/covers/" + id + ".jpg", "2판");
+        detail.setId(id);
+        book.addBookDetail(detail);
+        return book;
+    }
+
+    static List<BookDTO.BookResponse> responses(int size) {
+        List<BookDTO.BookResponse> responses = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            responses.add(BookDTO.BookResponse.fromEntity(book(id)));
+        }
+        return responses;
+    }
+
+    static BookDTO.BookCreateRequest createRequest(long id) {
+        BookDTO.BookDetailRequest detail = new BookDTO.BookDetailRequest();
+        detail.setDescription("스프링 부트와 JPA로 만드는 REST API 입문서입니다.");
+        detail.setLanguage("한국어");
+        detail.setPageCount(420);
+        detail.setPublisher("한빛미디어");
+        detail.setEdition("2판");
+
+        BookDTO.BookCreateRequest request = new BookDTO.BookCreateRequest();
+        request.setTitle("스프링 부트 실전 " + id);
+        request.setAuthor("홍길동");
+        request.setIsbn(isbn(id));
+        request.setPrice(30000);
+        request.setPublishDate(LocalDate.of(2024, 1, 1));
+        request.setDetailRequest(detail);
+        return request;
+    }
+
+    static String isbn(long id) {
+        return String.format("978%010d", id);
+    }
+}
@@ -0,0 +1,43 @@
+package com.rookies4.MySpringBootLab.benchmark;
+
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import com.rookies4.MySpringBootLab.entity.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> DTO 변환(Lombok 빌더 포함) 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookMappingBenchmark {
+
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        book = BookFixtures.book(1L);
+    }
+
+    @Benchmark
+    public BookDTO.BookResponse bookResponseFromEntity() {
+        return BookDTO.BookResponse.fromEntity(book);
+    }
+
+    @Benchmark
+    public BookDTO.BookDetailResponse bookDetailResponseFromEntity() {
+        return BookDTO.BookDetailResponse.fromEntity(book.getBookDetail());
+    }
+}
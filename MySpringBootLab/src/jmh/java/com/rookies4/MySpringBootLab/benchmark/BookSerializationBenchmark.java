@@ -0,0 +1,50 @@
+package com.rookies4.MySpringBootLab.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BookResponse 목록의 Jackson 직렬화 비용 측정 (목록 크기별)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookSerializationBenchmark {
+
+    @Param({"1", "20", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<BookDTO.BookResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 ObjectMapper와 동일하게 LocalDate를 ISO 문자열로 직렬화
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        responses = BookFixtures.responses(size);
+    }
+
+    @Benchmark
+    public byte[] serializeBookResponses() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
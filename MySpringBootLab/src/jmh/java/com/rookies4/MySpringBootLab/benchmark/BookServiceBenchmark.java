@@ -0,0 +1,96 @@
+package com.rookies4.MySpringBootLab.benchmark;
+
+import com.rookies4.MySpringBootLab.MySpringBootLabApplication;
+import com.rookies4.MySpringBootLab.cache.CachedBookJson;
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import com.rookies4.MySpringBootLab.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 내장 H2 위에서 BookService 주요 메서드 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    private static final int BOOK_COUNT = 2000;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private long bookId;
+    private int price;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MySpringBootLabApplication.class)
+                .web(WebApplicationType.NONE)
+                // application.properties(MariaDB)보다 우선하도록 커맨드라인 인자로 전달
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        bookService = context.getBean(BookService.class);
+
+        List<BookDTO.BookCreateRequest> requests = new ArrayList<>(BOOK_COUNT);
+        for (long id = 1; id <= BOOK_COUNT; id++) {
+            requests.add(BookFixtures.createRequest(id));
+        }
+        bookId = bookService.createBooks(requests).getResults().get(BOOK_COUNT / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookDTO.BookResponse getBookById() {
+        return bookService.getBookById(bookId);
+    }
+
+    // 캐시 적중 시 직렬화된 JSON 바이트를 그대로 반환하는 단건 조회 경로 (BookController 사용 경로)
+    @Benchmark
+    public CachedBookJson getBookJsonById() {
+        return bookService.getBookJsonById(bookId);
+    }
+
+    @Benchmark
+    public BookDTO.BookPageResponse getBooksFirstPage() {
+        return bookService.getBooks(null, 20);
+    }
+
+    @Benchmark
+    public List<BookDTO.BookResponse> searchBooksByTitle() {
+        return bookService.searchBooksByTitle("실전 19");
+    }
+
+    @Benchmark
+    public BookDTO.BookResponse patchBookPrice() {
+        BookDTO.BookPatchRequest request = new BookDTO.BookPatchRequest();
+        request.setPrice(30000 + (price++ % 1000));
+        return bookService.patchBook(bookId, request);
+    }
+}
@@ -0,0 +1,94 @@
+package com.rookies4.MySpringBootLab.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 jar 기동 시간 비교 (프로세스 시작부터 "Started MySpringBootLabApplication" 로그까지, JVM 기동 포함)
+ * - jar     : spring-boot-maven-plugin 실행 jar를 그대로 실행 (AOT 코드가 들어 있어도 spring.aot.enabled 없이는 사용하지 않음)
+ * - aot-cds : mvn -Paot-cds package 결과물 (AOT 처리 + CDS 아카이브)
+ * 먼저 mvn -Paot-cds package -DskipTests 로 두 실행 파일을 만든 뒤 실행합니다. DB는 H2 메모리 DB를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String JAR = "target/MySpringBootLab-0.0.1-SNAPSHOT.jar";
+    private static final String CDS_JAR = "target/cds/MySpringBootLab-0.0.1-SNAPSHOT.jar";
+    private static final String CDS_ARCHIVE = "target/cds/application.jsa";
+
+    @Param({"jar", "aot-cds"})
+    private String mode;
+
+    private List<String> command;
+
+    @Setup
+    public void setUp() {
+        command = new ArrayList<>();
+        command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+        if (mode.equals("aot-cds")) {
+            requireFile(CDS_JAR);
+            requireFile(CDS_ARCHIVE);
+            command.add("-XX:SharedArchiveFile=" + CDS_ARCHIVE);
+            command.add("-Dspring.aot.enabled=true");
+            command.add("-jar");
+            command.add(CDS_JAR);
+        } else {
+            requireFile(JAR);
+            command.add("-jar");
+            command.add(JAR);
+        }
+        command.addAll(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:startup",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--server.port=0"));
+    }
+
+    @Benchmark
+    public void startUntilReady() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.contains("Started MySpringBootLabApplication")) {
+                    return;
+                }
+            }
+            throw new IllegalStateException("애플리케이션 기동 실패 (exit=" + process.waitFor() + ")");
+        } finally {
+            process.destroy();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void requireFile(String path) {
+        if (!new File(path).isFile()) {
+            throw new IllegalStateException(path + " 가 없습니다. 먼저 mvn -Paot-cds package -DskipTests 를 실행하세요.");
+        }
+    }
+}
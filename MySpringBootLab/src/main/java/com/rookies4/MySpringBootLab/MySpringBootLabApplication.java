@@ -2,8 +2,10 @@ package com.rookies4.MySpringBootLab;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
+@EnableCaching
 public class MySpringBootLabApplication {
 
 	public static void main(String[] args) {
@@ -1,6 +1,7 @@
 package com.rookies4.MySpringBootLab;
 
 import com.rookies4.MySpringBootLab.runner.MyPropRunner;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -15,4 +16,13 @@ public class ProdConfig {
         myEnvironment.setMode("운영환경");
         return myEnvironment;
     }
+
+    // 운영 환경은 spring.main.lazy-initialization=true로 기동하지만,
+    // 요청 처리 경로인 애플리케이션 빈(컨트롤러/서비스/리포지토리/캐시/색인)은 첫 요청 지연이 없도록 기동 시 생성합니다.
+    // (BeanFactoryPostProcessor 단계에서 조회되므로 static 메서드로 등록)
+    @Bean
+    public static LazyInitializationExcludeFilter applicationBeansExcludeFilter() {
+        String basePackage = MySpringBootLabApplication.class.getPackageName() + ".";
+        return (beanName, beanDefinition, beanType) -> beanType != null && beanType.getName().startsWith(basePackage);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.rookies4.MySpringBootLab.cache;
+
+import com.rookies4.MySpringBootLab.transaction.TransactionCallbacks;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 단건 조회(getBookJsonById / getBookJsonByIsbn) 결과를 보관하는 read-through 캐시입니다.
+ * - books : 도서 ID -> CachedBookJson (버전과 직렬화된 응답 본문)
+ * - bookIsbns : ISBN -> 도서 ID (응답 본문은 books 캐시 하나에만 보관)
+ * 크기/TTL 제한과 hit/miss/eviction 통계는 spring.cache.caffeine.spec 설정을 따르며 actuator의 cache.* 메트릭으로 노출됩니다.
+ *
+ * 조회(로드) 도중 같은 도서가 수정되어 무효화되면, 로드한 값이 수정 전 데이터일 수 있으므로 캐시에 남기지 않습니다.
+ * 무효화마다 세대 값을 올리고, 로드 후 put 한 뒤 세대가 바뀌었으면 방금 넣은 항목을 다시 제거합니다.
+ * (put 후에 확인하므로 확인과 무효화가 어떤 순서로 일어나도 이전 데이터가 남지 않습니다.)
+ * - ID 조회 : 도서 ID별 세대 (ID 해시로 나눈 스트라이프)
+ * - ISBN 조회 : 로드 전에는 도서 ID를 모르므로 전체 세대 (로드 중 어떤 도서든 무효화되면 캐시하지 않음)
+ *
+ * 같은 키의 동시 캐시 미스는 (키, 로드 전 세대) 단위의 single-flight로 합쳐 loader를 한 번만 실행합니다.
+ * 캐시에 쓰는 것은 loader를 실행한 호출(leader)뿐이며, 무효화 이후에 들어온 요청은 세대가 달라 이전 로드에 합류하지 않습니다.
+ * 따라서 loader는 자체적으로 다른 조회와 결과를 공유하지 않아야 합니다. (공유하면 무효화 이전에 시작된 조회 결과를 받을 수 있음)
+ */
+@Component
+public class BookResponseCache {
+
+    public static final String BOOKS = "books";
+    public static final String BOOK_ISBNS = "bookIsbns";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache books;
+    private final Cache bookIsbns;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    private final SingleFlight<LoadKey, CachedBookJson> loads = new SingleFlight<>();
+
+    @Autowired
+    public BookResponseCache(CacheManager cacheManager) {
+        this.books = cacheManager.getCache(BOOKS);
+        this.bookIsbns = cacheManager.getCache(BOOK_ISBNS);
+    }
+
+    public CachedBookJson getById(Long id, Supplier<CachedBookJson> loader) {
+        CachedBookJson cached = getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generations.get(stripe(id));
+        return loads.execute(new LoadKey(id, generation), () -> {
+            CachedBookJson response = load(loader);
+            if (generations.get(stripe(id)) != generation) {
+                books.evict(id);
+            }
+            return response;
+        });
+    }
+
+    public CachedBookJson getByIsbn(String isbn, Supplier<CachedBookJson> loader) {
+        CachedBookJson cached = getIfPresent(isbn);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = globalGeneration.get();
+        return loads.execute(new LoadKey(isbn, generation), () -> {
+            CachedBookJson response = load(loader);
+            if (globalGeneration.get() != generation) {
+                books.evict(response.getId());
+            }
+            return response;
+        });
+    }
+
+    // 캐시에 있을 때만 반환 (로드하지 않음, 없으면 null)
+    public CachedBookJson getIfPresent(Long id) {
+        return books.get(id, CachedBookJson.class);
+    }
+
+    public CachedBookJson getIfPresent(String isbn) {
+        Long id = bookIsbns.get(isbn, Long.class);
+        if (id == null) {
+            return null;
+        }
+        CachedBookJson cached = books.get(id, CachedBookJson.class);
+        // ISBN이 변경된 도서라면 이전 ISBN 매핑은 무시하고 다시 조회합니다.
+        if (cached != null && isbn.equals(cached.getIsbn())) {
+            return cached;
+        }
+        bookIsbns.evict(isbn);
+        return null;
+    }
+
+    /**
+     * 도서 변경 시 캐시를 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 롤백된 쓰기가 캐시 상태에 영향을 주지 않도록 합니다.
+     * (ISBN 매핑은 getByIsbn에서 응답의 ISBN과 비교하여 자연히 정리됩니다.)
+     */
+    public void evictAfterCommit(Long id) {
+        TransactionCallbacks.afterCommit(() -> evict(id));
+    }
+
+    private void evict(Long id) {
+        generations.incrementAndGet(stripe(id));
+        globalGeneration.incrementAndGet();
+        books.evict(id);
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(Long.hashCode(id), GENERATION_STRIPES);
+    }
+
+    private CachedBookJson load(Supplier<CachedBookJson> loader) {
+        CachedBookJson response = loader.get();
+        books.put(response.getId(), response);
+        bookIsbns.put(response.getIsbn(), response.getId());
+        return response;
+    }
+
+    // single-flight 키: 도서 ID(Long) 또는 ISBN(String)과 로드 전 세대
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class LoadKey {
+        private final Object key;
+        private final long generation;
+    }
+}
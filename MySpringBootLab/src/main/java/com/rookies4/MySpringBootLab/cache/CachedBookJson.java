@@ -0,0 +1,48 @@
+package com.rookies4.MySpringBootLab.cache;
+
+/**
+ * 단건 조회 응답을 UTF-8 JSON 바이트로 미리 인코딩해 둔 캐시 항목입니다.
+ * 컨트롤러는 body를 그대로 응답에 쓰므로 캐시 적중 시 DTO 생성과 Jackson 직렬화가 일어나지 않습니다.
+ * 바이트 배열은 여러 요청이 공유하므로 절대 수정하면 안 됩니다.
+ */
+public final class CachedBookJson {
+
+    private final Long id;
+    private final String isbn;
+    private final Long version;
+    private final String eTag;
+    private final byte[] body;
+
+    public CachedBookJson(Long id, String isbn, Long version, byte[] body) {
+        this.id = id;
+        this.isbn = isbn;
+        this.version = version;
+        this.eTag = eTag(id, version);
+        this.body = body;
+    }
+
+    // 강한 ETag: "{도서 ID}-{버전}" (ISBN이 다른 도서로 옮겨가도 값이 겹치지 않도록 ID 포함)
+    public static String eTag(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
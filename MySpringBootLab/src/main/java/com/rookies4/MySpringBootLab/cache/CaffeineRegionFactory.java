@@ -0,0 +1,125 @@
+package com.rookies4.MySpringBootLab.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Caffeine을 저장소로 사용하는 Hibernate 2차 캐시 RegionFactory입니다. (hibernate.cache.region.factory_class)
+ * 영역(region)별 크기/만료 정책은 Caffeine 스펙 문자열로 설정합니다.
+ * - hibernate.cache.caffeine.spec          : 엔티티/자연 키/쿼리 영역의 기본 스펙
+ * - hibernate.cache.caffeine.spec.{region} : 영역별 스펙 (예: hibernate.cache.caffeine.spec.book)
+ * 갱신 타임스탬프 영역은 쿼리 캐시의 유효성 판단 기준이므로 제거/만료 없이 유지합니다.
+ * 캐시는 인스턴스 로컬이므로 여러 인스턴스를 띄우면 다른 인스턴스의 변경은 만료 시간(expireAfterWrite)이 지나야 반영됩니다.
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String SPEC = "hibernate.cache.caffeine.spec";
+
+    private static final String DEFAULT_SPEC = "maximumSize=10000,expireAfterWrite=10m";
+
+    private final List<Cache<Object, Object>> caches = new CopyOnWriteArrayList<>();
+    private Map<String, Object> configValues = Map.of();
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        caches.forEach(Cache::invalidateAll);
+        caches.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(build(Caffeine.from(spec(regionConfig.getRegionName()))));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(build(Caffeine.from(spec(regionName))));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(build(Caffeine.newBuilder()));
+    }
+
+    private CaffeineSpec spec(String regionName) {
+        Object spec = configValues.get(SPEC + "." + regionName);
+        if (spec == null) {
+            spec = configValues.getOrDefault(SPEC, DEFAULT_SPEC);
+        }
+        return CaffeineSpec.parse(spec.toString());
+    }
+
+    private Cache<Object, Object> build(Caffeine<Object, Object> builder) {
+        Cache<Object, Object> cache = builder.build();
+        caches.add(cache);
+        return cache;
+    }
+
+    private static class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+        private final Cache<Object, Object> cache;
+
+        CaffeineStorageAccess(Cache<Object, Object> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void clearCache(SharedSessionContractImplementor session) {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.rookies4.MySpringBootLab.cache;
+
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 등록된 ISBN의 Bloom 필터입니다.
+ * mightContain()이 false면 해당 ISBN은 확실히 미등록이므로 existsByIsbn 쿼리를 생략할 수 있습니다.
+ * true는 "있을 수도 있음"이므로 DB로 확인해야 합니다. (삭제된 ISBN은 제거하지 않으므로 오탐으로만 남습니다.)
+ * 기동 시 전체 ISBN으로 채우며, 그 전까지는 항상 true를 반환하여 DB 검증을 거치도록 합니다.
+ */
+@Component
+public class IsbnBloomFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsbnBloomFilter.class);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    private volatile boolean ready;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    public IsbnBloomFilter(@Value("${book.isbn-filter.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${book.isbn-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        // 최적 비트 수 m = -n * ln(p) / (ln 2)^2, 해시 함수 수 k = m / n * ln 2
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((size + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<String> isbns = bookRepository.findAllIsbns();
+        isbns.forEach(this::put);
+        ready = true;
+        logger.info("ISBN Bloom 필터 생성 완료: {}건, {}bit, 해시 {}개", isbns.size(), bitSize, hashCount);
+    }
+
+    public void put(String isbn) {
+        if (isbn == null) {
+            return;
+        }
+        long[] hashes = hash(isbn);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hashes, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String isbn) {
+        if (isbn == null) {
+            return false;
+        }
+        if (!ready) {
+            return true;
+        }
+        long[] hashes = hash(isbn);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hashes, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing: h1 + i * h2
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+    }
+
+    // FNV-1a 64bit 해시와 그 값을 한 번 더 섞은 값을 두 개의 독립 해시로 사용
+    private static long[] hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        long h2 = h;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xff51afd7ed558ccdL;
+        h2 ^= h2 >>> 33;
+        h2 *= 0xc4ceb9fe1a85ec53L;
+        h2 ^= h2 >>> 33;
+        return new long[]{h, h2 | 1};
+    }
+}
@@ -0,0 +1,55 @@
+package com.rookies4.MySpringBootLab.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로딩을 하나로 합칩니다. (single-flight)
+ * 먼저 들어온 호출(leader)만 loader를 실행하고, 그동안 들어온 같은 키의 호출은 그 결과나 예외를 그대로 공유합니다.
+ * 로딩이 끝나면 키를 비우므로 결과를 보관하지는 않으며, 이후 호출은 다시 로딩합니다. (보관은 캐시의 역할)
+ * 공유된 결과 객체는 여러 스레드가 함께 사용하므로 호출자는 수정하지 않아야 합니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // 현재 로딩 중인 키 수 (모니터링/테스트용)
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,16 +1,19 @@
 package com.rookies4.MySpringBootLab.controller;
 
-import com.rookies4.MySpringBootLab.dto.BookDTO;
-import com.rookies4.MySpringBootLab.service.BookService;
+import com.rookies4.MySpringBootLab.cache.CachedBookJson;
 import com.rookies4.MySpringBootLab.dto.BookDTO;
 import com.rookies4.MySpringBootLab.service.BookService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/books")
@@ -26,27 +29,103 @@ public class BookController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    // GET /api/books : 모든 도서 조회
+    // POST /api/books/bulk : 도서 대량 등록 (항목별 결과 반환)
+    @PostMapping("/bulk")
+    public ResponseEntity<BookDTO.BookBulkCreateResponse> createBooks(@RequestBody List<BookDTO.BookCreateRequest> requests) {
+        BookDTO.BookBulkCreateResponse response = bookService.createBooks(requests);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // GET /api/books?cursor=&size= : 도서 목록 커서 기반 페이지 조회
     @GetMapping
-    public ResponseEntity<List<BookDTO.BookResponse>> getAllBooks() {
-        List<BookDTO.BookResponse> books = bookService.getAllBooks();
-        return new ResponseEntity<>(books, HttpStatus.OK);
+    public ResponseEntity<BookDTO.BookPageResponse> getBooks(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        BookDTO.BookPageResponse page = bookService.getBooks(cursor, size);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    // GET /api/books?fields=id,title,author,price : 요청한 필드만 조회하는 목록 (detailResponse.* 요청 시에만 상세 조인)
+    @GetMapping(params = "fields")
+    public ResponseEntity<BookDTO.BookFieldsPageResponse> getBookFields(@RequestParam(required = false) String cursor,
+                                                                        @RequestParam(required = false) Integer size,
+                                                                        @RequestParam String fields) {
+        BookDTO.BookFieldsPageResponse page = bookService.getBookFields(cursor, size, fields);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
+    // GET /api/books/export : 전체 도서를 NDJSON으로 스트리밍 Export
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        StreamingResponseBody body = bookService::exportBooks;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
     // GET /api/books/{id} : ID로 특정 도서 조회
+    // 캐시된 JSON 바이트를 그대로 본문으로 쓰며, If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다.
+    // (캐시 미스여도 버전 컬럼만 조회하여 비교하므로 304 응답에는 본문 조회/직렬화가 일어나지 않습니다.)
     @GetMapping("/{id}")
-    public ResponseEntity<BookDTO.BookResponse> getBookById(@PathVariable Long id) {
-        BookDTO.BookResponse book = bookService.getBookById(id);
+    public ResponseEntity<byte[]> getBookById(@PathVariable Long id,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String eTag = bookService.getBookETagById(id);
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+        }
+        return jsonResponse(bookService.getBookJsonById(id), ifNoneMatch);
+    }
+
+    // GET /api/books/{id}?fields= : 요청한 필드만 조회 (JSON 바이트 캐시를 거치지 않음)
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getBookFieldsById(@PathVariable Long id, @RequestParam String fields) {
+        Map<String, Object> book = bookService.getBookFieldsById(id, fields);
         return new ResponseEntity<>(book, HttpStatus.OK);
     }
 
-    // GET /api/books/isbn/{isbn} : ISBN으로 도서 조회
+    // GET /api/books/isbn/{isbn} : ISBN으로 도서 조회 (If-None-Match 지원)
     @GetMapping("/isbn/{isbn}")
-    public ResponseEntity<BookDTO.BookResponse> getBookByIsbn(@PathVariable String isbn) {
-        BookDTO.BookResponse book = bookService.getBookByIsbn(isbn);
+    public ResponseEntity<byte[]> getBookByIsbn(@PathVariable String isbn,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String eTag = bookService.getBookETagByIsbn(isbn);
+            if (matches(ifNoneMatch, eTag)) {
+                return notModified(eTag);
+            }
+        }
+        return jsonResponse(bookService.getBookJsonByIsbn(isbn), ifNoneMatch);
+    }
+
+    @GetMapping(value = "/isbn/{isbn}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getBookFieldsByIsbn(@PathVariable String isbn, @RequestParam String fields) {
+        Map<String, Object> book = bookService.getBookFieldsByIsbn(isbn, fields);
         return new ResponseEntity<>(book, HttpStatus.OK);
     }
 
+    // GET /api/books/{id}/description : 도서 설명 본문 조회 (목록/단건 응답에는 포함되지 않음)
+    @GetMapping("/{id}/description")
+    public ResponseEntity<BookDTO.BookDescriptionResponse> getBookDescription(@PathVariable Long id) {
+        BookDTO.BookDescriptionResponse response = bookService.getBookDescription(id);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // GET /api/books/search?minPrice=&maxPrice=&publishedFrom=&publishedTo=&publisher=&language=&cursor=&size=
+    // 가격/출판일 범위, 출판사/언어 조건을 조합한 패싯 검색 (출판사/언어별 건수 포함)
+    @GetMapping("/search")
+    public ResponseEntity<BookDTO.BookFacetSearchResponse> searchBooks(BookDTO.BookFacetSearchRequest request) {
+        BookDTO.BookFacetSearchResponse response = bookService.searchBooksByFacets(request);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // GET /api/books/suggest?q=&size= : 검색창 자동완성 (제목/저자, id와 label만 반환)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookDTO.BookSuggestionResponse>> suggestBooks(@RequestParam String q,
+                                                                             @RequestParam(required = false) Integer size) {
+        List<BookDTO.BookSuggestionResponse> suggestions = bookService.suggestBooks(q, size);
+        return new ResponseEntity<>(suggestions, HttpStatus.OK);
+    }
+
     // 저자로 책 검색
     @GetMapping("/search/author")
     public ResponseEntity<List<BookDTO.BookResponse>> searchBooksByAuthor(@RequestParam String author) {
@@ -54,6 +133,12 @@ public class BookController {
         return new ResponseEntity<>(books, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/search/author", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> searchBookFieldsByAuthor(@RequestParam String author, @RequestParam String fields) {
+        List<Map<String, Object>> books = bookService.searchBookFieldsByAuthor(author, fields);
+        return new ResponseEntity<>(books, HttpStatus.OK);
+    }
+
     // 제목으로 책 검색
     @GetMapping("/search/title")
     public ResponseEntity<List<BookDTO.BookResponse>> searchBooksByTitle(@RequestParam String title) {
@@ -61,6 +146,12 @@ public class BookController {
         return new ResponseEntity<>(books, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/search/title", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> searchBookFieldsByTitle(@RequestParam String title, @RequestParam String fields) {
+        List<Map<String, Object>> books = bookService.searchBookFieldsByTitle(title, fields);
+        return new ResponseEntity<>(books, HttpStatus.OK);
+    }
+
     // PUT /api/books/{id} : 도서 전체 정보 수정
     @PutMapping("/{id}")
     public ResponseEntity<BookDTO.BookResponse> updateBook(@PathVariable Long id, @Valid @RequestBody BookDTO.BookUpdateRequest request) {
@@ -75,6 +166,13 @@ public class BookController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
     
+    // PATCH /api/books/batch : 여러 도서 일부 필드 일괄 수정 (항목별 결과 반환)
+    @PatchMapping("/batch")
+    public ResponseEntity<BookDTO.BookBatchPatchResponse> patchBooks(@RequestBody List<BookDTO.BookBatchPatchRequest> requests) {
+        BookDTO.BookBatchPatchResponse response = bookService.patchBooks(requests);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     // PATCH /api/books/{id}/detail : 도서 상세 정보 일부 필드 수정
     @PatchMapping("/{id}/detail")
     public ResponseEntity<BookDTO.BookDetailResponse> patchBookDetail(@PathVariable Long id, @RequestBody BookDTO.BookDetailPatchRequest request) {
@@ -88,4 +186,33 @@ public class BookController {
         bookService.deleteBook(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private static ResponseEntity<byte[]> jsonResponse(CachedBookJson book, String ifNoneMatch) {
+        // ETag 비교 후 로드 사이에 수정되었을 수 있으므로 로드한 항목으로 다시 비교
+        if (ifNoneMatch != null && matches(ifNoneMatch, book.getETag())) {
+            return notModified(book.getETag());
+        }
+        return ResponseEntity.ok()
+                .eTag(book.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(book.getBody());
+    }
+
+    private static ResponseEntity<byte[]> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    // If-None-Match 헤더(쉼표로 구분된 목록 또는 *)에 현재 ETag가 포함되는지 확인 (W/ 접두사는 약한 비교로 무시)
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
\ No newline at end of file
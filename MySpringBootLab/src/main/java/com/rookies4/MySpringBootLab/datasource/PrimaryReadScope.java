@@ -0,0 +1,33 @@
+package com.rookies4.MySpringBootLab.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * readOnly 트랜잭션이라도 복제본 대신 primary에서 읽어야 하는 구간을 표시합니다.
+ * 캐시(단건 JSON 캐시, Hibernate 2차 캐시)를 채우는 조회가 복제본에서 실행되면 복제 지연만큼 이전 데이터를 읽어
+ * 캐시 TTL 동안 보관하게 되므로(방금 수정한 내용이 보이지 않음), 이런 조회는 이 구간 안에서 실행합니다.
+ * 복제본 라우팅(ReplicaRoutingConfig)이 꺼져 있으면 아무 효과가 없습니다.
+ */
+public final class PrimaryReadScope {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReadScope() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        if (isActive()) {
+            return action.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+}
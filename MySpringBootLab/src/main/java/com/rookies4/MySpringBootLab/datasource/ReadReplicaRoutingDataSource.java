@@ -0,0 +1,210 @@
+package com.rookies4.MySpringBootLab.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션의 커넥션은 정상 상태인 복제본(라운드 로빈)에서, 그 외에는 primary에서 가져오는 DataSource입니다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ *
+ * 복제본은 healthCheckInterval마다 연결 가능 여부와 복제 지연(lagQuery)을 확인하며,
+ * 연결 실패 또는 지연이 maxLag를 넘은 복제본은 다음 확인에서 회복될 때까지 제외됩니다.
+ * 사용 가능한 복제본이 없거나 커넥션 획득에 실패하면 primary로 대체합니다.
+ * 캐시를 채우는 조회처럼 최신 값을 읽어야 하는 readOnly 구간은 PrimaryReadScope로 primary에 고정합니다.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration healthCheckInterval;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+    private Counter fallbackCounter;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                        Duration healthCheckInterval, Duration maxLag, String lagQuery) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.healthCheckInterval = healthCheckInterval;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    // 대상 DataSource 선택: 쓰기는 primary, 읽기는 사용 가능한 복제본(실패 시 다음 복제본, 모두 불가하면 primary)
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReadScope.isActive()) {
+            return source.open(primary);
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return source.open(replica.dataSource);
+            } catch (SQLException e) {
+                replica.markDown("커넥션 획득 실패: " + e.getMessage());
+            }
+        }
+        if (fallbackCounter != null) {
+            fallbackCounter.increment();
+        }
+        return source.open(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 첫 확인이 끝나기 전까지 복제본은 제외 상태이므로 읽기는 primary로 갑니다.
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0,
+                healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("book.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("1 if the replica currently receives read-only transactions")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("book.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Last observed replication lag")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+        fallbackCounter = Counter.builder("book.datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was available")
+                .register(registry);
+    }
+
+    // 모든 복제본의 연결 가능 여부와 복제 지연을 확인하여 사용 가능 상태를 갱신
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!StringUtils.hasText(lagQuery)) {
+                    replica.markUp(0);
+                    continue;
+                }
+                Long lag = queryLag(connection);
+                if (lag == null) {
+                    replica.markDown("복제 지연을 확인할 수 없음");
+                } else if (lag > maxLag.toSeconds()) {
+                    replica.lagSeconds = lag;
+                    replica.markDown("복제 지연 " + lag + "초");
+                } else {
+                    replica.markUp(lag);
+                }
+            } catch (SQLException e) {
+                replica.markDown("상태 확인 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private Long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+            // MariaDB/MySQL의 SHOW SLAVE STATUS 결과를 그대로 사용할 수 있도록 컬럼명을 먼저 찾음
+            int column;
+            try {
+                column = rs.findColumn("Seconds_Behind_Master");
+            } catch (SQLException e) {
+                column = 1;
+            }
+            long lag = rs.getLong(column);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile long lagSeconds;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markUp(long lag) {
+            lagSeconds = lag;
+            if (!available) {
+                available = true;
+                logger.info("복제본 {} 사용 시작 (지연 {}초)", name, lag);
+            }
+        }
+
+        private void markDown(String reason) {
+            if (available) {
+                available = false;
+                logger.warn("복제본 {} 제외: {}", name, reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.rookies4.MySpringBootLab.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * 복제본으로 라우팅되는 readOnly 트랜잭션에서는 2차 캐시를 읽기만 하고(CacheMode.GET) 조회 결과를 넣지 않습니다.
+ * 복제 지연 중인 복제본에서 읽은 엔티티가 2차 캐시에 들어가면 primary의 최신 값 대신 TTL 동안 제공되기 때문입니다.
+ * PrimaryReadScope 안의 조회는 primary에서 읽으므로 평소처럼 캐시를 채웁니다.
+ * open-in-view로 세션이 요청 동안 유지되므로 트랜잭션이 끝나면 원래 CacheMode로 되돌립니다.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || PrimaryReadScope.isActive()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaTransactionData(transactionData, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replicaData) {
+            replicaData.session.setCacheMode(replicaData.previousCacheMode);
+            super.cleanupTransaction(replicaData.delegate);
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static final class ReplicaTransactionData {
+        private final Object delegate;
+        private final Session session;
+        private final CacheMode previousCacheMode;
+
+        private ReplicaTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+            this.delegate = delegate;
+            this.session = session;
+            this.previousCacheMode = previousCacheMode;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.rookies4.MySpringBootLab.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// book.datasource.replica. 접두사로 시작하는 읽기 전용 복제본 설정을 바인딩
+@ConfigurationProperties(prefix = "book.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    // 복제본 JDBC URL 목록 (쉼표 구분), 비어 있으면 라우팅을 사용하지 않음
+    private List<String> urls = new ArrayList<>();
+
+    // 미지정 시 spring.datasource.username/password 사용
+    private String username;
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    // 복제본 장애 시 primary로 빨리 넘어가도록 짧게 유지
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // 복제 지연이 이 값을 넘으면 해당 복제본으로 읽기를 보내지 않음
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    // 복제 지연(초)을 반환하는 쿼리. Seconds_Behind_Master 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼을 사용
+    // 비어 있으면 연결 가능 여부만 확인
+    private String lagQuery;
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+}
@@ -0,0 +1,87 @@
+package com.rookies4.MySpringBootLab.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * book.datasource.replica.urls가 설정된 경우에만 활성화되는 읽기 복제본 라우팅 설정입니다.
+ * primary 풀은 기존 spring.datasource.* / spring.datasource.hikari.* 설정을 그대로 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "book.datasource.replica", name = "urls")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     DataSourceProperties dataSourceProperties,
+                                                                     ReplicaDataSourceProperties replicaProperties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = replicaProperties.getUrls();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, createReplica(name, urls.get(i), dataSourceProperties, replicaProperties));
+        }
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getHealthCheckInterval(), replicaProperties.getMaxLag(), replicaProperties.getLagQuery());
+    }
+
+    // JPA/트랜잭션 매니저가 사용하는 DataSource: 첫 SQL 실행 시점에 readOnly 여부를 보고 대상을 고름
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    // 복제본에서 읽은 엔티티가 2차 캐시에 들어가지 않도록 JPA 방언 교체 (EntityManagerFactory 초기화 전에 설정해야 함)
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factoryBean) {
+                    factoryBean.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    private HikariDataSource createReplica(String name, String url, DataSourceProperties dataSourceProperties,
+                                           ReplicaDataSourceProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setUsername(replicaProperties.getUsername() != null
+                ? replicaProperties.getUsername() : dataSourceProperties.determineUsername());
+        dataSource.setPassword(replicaProperties.getPassword() != null
+                ? replicaProperties.getPassword() : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        // 기동 시 복제본이 내려가 있어도 애플리케이션은 primary만으로 시작
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
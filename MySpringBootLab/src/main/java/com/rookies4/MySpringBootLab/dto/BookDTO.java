@@ -1,5 +1,6 @@
 package com.rookies4.MySpringBootLab.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.rookies4.MySpringBootLab.entity.Book;
 import com.rookies4.MySpringBootLab.entity.BookDetail;
 import jakarta.validation.Valid;
@@ -11,8 +12,11 @@ import jakarta.validation.constraints.Pattern;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 public class BookDTO {
 
@@ -53,8 +57,17 @@ public class BookDTO {
     public static class BookUpdateRequest {
         private String title;
         private String author;
+
+        @NotBlank(message = "ISBN은 필수 입력 항목입니다.")
+        @Pattern(regexp = "^(978|979)[0-9]{10}$", message = "유효하지 않은 ISBN 형식입니다. (예: 9781234567890)")
+        private String isbn;
+
         private Integer price;
         private LocalDate publishDate;
+
+        // 생략하면 상세 정보는 변경하지 않음. 전달된 경우 BookDetailRequest 유효성 검증을 적용합니다.
+        @Valid
+        private BookDetailRequest detailRequest;
     }
 
     // 도서 정보 부분 업데이트를 위한 DTO (Book 엔티티)
@@ -69,6 +82,13 @@ public class BookDTO {
         private BookDetailPatchRequest detailRequest;
     }
 
+    // 일괄 부분 업데이트 항목 DTO (대상 도서 ID + PATCH 필드)
+    @Getter
+    @Setter
+    public static class BookBatchPatchRequest extends BookPatchRequest {
+        private Long id;
+    }
+
     // 도서 상세 정보 요청을 위한 DTO
     @Getter
     @Setter
@@ -112,11 +132,13 @@ public class BookDTO {
         private String isbn;
         private Integer price;
         private LocalDate publishDate;
+        private Long version;
         private BookDetailResponse detailResponse;
 
         public static BookResponse fromEntity(Book book) {
             BookResponseBuilder builder = BookResponse.builder()
                     .id(book.getId())
+                    .version(book.getVersion())
                     .title(book.getTitle())
                     .author(book.getAuthor())
                     .isbn(book.getIsbn())
@@ -129,13 +151,150 @@ public class BookDTO {
             }
             return builder.build();
         }
+
+        // 설명 본문까지 포함한 응답 (전체 카탈로그 Export 용, 설명을 함께 fetch 한 엔티티에 사용)
+        public static BookResponse fromEntityWithDescription(Book book) {
+            BookResponse response = fromEntity(book);
+            if (book.getBookDetail() != null) {
+                response.getDetailResponse().setDescription(book.getBookDetail().getDescription());
+            }
+            return response;
+        }
+    }
+
+    // 대량 등록/일괄 수정 시 항목별 처리 결과
+    public enum BulkItemStatus {
+        CREATED,   // 등록 성공
+        UPDATED,   // 수정 성공
+        UNCHANGED, // 변경 사항 없음 (UPDATE 미실행)
+        DUPLICATE, // 이미 등록되었거나 요청 내에서 중복된 ISBN
+        CONFLICT,  // 변경하려는 ISBN이 이미 사용 중이거나 같은 요청의 다른 도서가 먼저 사용
+        NOT_FOUND, // 대상 도서 없음
+        INVALID    // 유효성 검증 실패
+    }
+
+    // 대량 등록/일괄 수정 항목별 결과 DTO (index는 요청 배열에서의 위치)
+    @Getter
+    @Setter
+    @Builder
+    public static class BookBulkItemResult {
+        private int index;
+        private String isbn;
+        private BulkItemStatus status;
+        private Long id;
+        private String message;
+    }
+
+    // 대량 등록 응답 DTO
+    @Getter
+    @Setter
+    @Builder
+    public static class BookBulkCreateResponse {
+        private int requested;
+        private int created;
+        private int failed;
+        private List<BookBulkItemResult> results;
+    }
+
+    // 일괄 부분 업데이트 응답 DTO
+    @Getter
+    @Setter
+    @Builder
+    public static class BookBatchPatchResponse {
+        private int requested;
+        private int updated;
+        private int failed;
+        private List<BookBulkItemResult> results;
+    }
+
+    // 커서 기반 도서 목록 페이지 응답 DTO
+    @Getter
+    @Setter
+    @Builder
+    public static class BookPageResponse {
+        private List<BookResponse> content;
+        private int size;
+        private boolean hasNext;
+        // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달하는 불투명 토큰 (마지막 페이지면 null)
+        private String nextCursor;
+    }
+
+    // ?fields= 요청의 커서 기반 목록 응답 DTO (content 항목에는 요청한 필드만 포함)
+    @Getter
+    @Setter
+    @Builder
+    public static class BookFieldsPageResponse {
+        private List<Map<String, Object>> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+    }
+
+    // 패싯 검색 조건 (GET /api/books/search 쿼리 파라미터)
+    // 가격/출판일은 양 끝을 포함하는 범위이며 생략하면 제한 없음, publisher/language는 여러 번 지정하면 그중 하나와 일치
+    @Getter
+    @Setter
+    public static class BookFacetSearchRequest {
+        private Integer minPrice;
+        private Integer maxPrice;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate publishedFrom;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        private LocalDate publishedTo;
+        private List<String> publisher;
+        private List<String> language;
+        private String cursor;
+        private Integer size;
+    }
+
+    // 패싯 검색 응답 DTO: 조건에 맞는 전체 건수, 커서 기반 페이지, 출판사/언어별 건수(건수 내림차순)
+    // 각 패싯의 건수는 그 패싯 자신의 조건을 제외한 나머지 조건 기준입니다.
+    @Getter
+    @Setter
+    @Builder
+    public static class BookFacetSearchResponse {
+        private int total;
+        private List<BookResponse> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+        private Map<String, Integer> publisherFacets;
+        private Map<String, Integer> languageFacets;
+    }
+
+    // 자동완성 항목 종류: 제목이면 id로 도서 조회, 저자면 label로 저자 검색
+    public enum SuggestionType {
+        TITLE,
+        AUTHOR
+    }
+
+    // 자동완성 응답 DTO (GET /api/books/suggest): 저자 항목은 id 없음
+    @Getter
+    @Setter
+    @Builder
+    public static class BookSuggestionResponse {
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long id;
+        private String label;
+        private SuggestionType type;
+    }
+
+    // 도서 설명 본문 응답 DTO (GET /api/books/{id}/description)
+    @Getter
+    @Setter
+    @Builder
+    public static class BookDescriptionResponse {
+        private Long bookId;
+        private String description;
     }
 
     // 클라이언트에게 반환될 도서 상세 정보 응답 DTO
+    // description은 별도 저장소에서 지연 로딩되므로 기본 응답에서는 생략 (설명 전용 API, ?fields=detailResponse.description, 카탈로그 Export에는 포함)
     @Getter
     @Setter
     @Builder
     public static class BookDetailResponse {
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private String description;
         private String language;
         private Integer pageCount;
@@ -145,7 +304,6 @@ public class BookDTO {
 
         public static BookDetailResponse fromEntity(BookDetail detail) {
             return BookDetailResponse.builder()
-                    .description(detail.getDescription())
                     .language(detail.getLanguage())
                     .pageCount(detail.getPageCount())
                     .publisher(detail.getPublisher())
@@ -1,35 +1,61 @@
 package com.rookies4.MySpringBootLab.entity;
 
+import com.rookies4.MySpringBootLab.search.BookFacetIndexListener;
+import com.rookies4.MySpringBootLab.search.BookSearchIndexListener;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 
 @Entity
+@DynamicUpdate // 변경된 컬럼만 UPDATE
+@EntityListeners({BookSearchIndexListener.class, BookFacetIndexListener.class}) // 제목/저자 n-gram 검색 색인, 패싯 색인 갱신
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book") // 2차 캐시 (CaffeineRegionFactory)
+@NaturalIdCache(region = "bookIsbn") // ISBN -> ID 매핑 캐시
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString(exclude = "bookDetail") // 순환 참조를 방지하기 위해 bookDetail 필드를 제외합니다.
 public class Book {
 
+    // IDENTITY 전략은 INSERT마다 즉시 실행되어 JDBC 배치가 불가능하므로 pooled 시퀀스를 사용합니다.
+    // allocationSize는 hibernate.jdbc.batch_size와 맞춰 시퀀스 조회를 50건당 1회로 줄입니다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
 
     private String title;
     private String author;
+    // 동시 등록 시 중복 ISBN을 막는 최종 기준
+    // 자연 키로 매핑하여 findByIsbn/existsByIsbn이 2차 캐시(bookIsbn 영역)로 ID를 찾도록 함. 수정 API로 변경 가능하므로 mutable
+    @NaturalId(mutable = true)
+    @Column(unique = true)
     private String isbn;
     private Integer price;
     private LocalDate publishDate;
 
+    // 도서 또는 BookDetail이 변경될 때마다 증가하는 버전 (ETag 값으로 사용)
+    @Version
+    private Long version;
+
     // BookDetail과의 1:1 관계 설정
     @OneToOne(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
     private BookDetail bookDetail;
@@ -0,0 +1,32 @@
+package com.rookies4.MySpringBootLab.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+// BookDetail의 긴 설명 본문. book_detail 행과 분리하여 설명이 필요한 경우에만 지연 로딩
+@Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bookDescription") // 본문이 커서 영역 크기를 따로 제한
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookDescription {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_description_seq")
+    @SequenceGenerator(name = "book_description_seq", sequenceName = "book_description_seq", allocationSize = 50)
+    private Long id;
+
+    // 일정 크기 이상이면 gzip 압축하여 저장 (CompressedTextConverter)
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content")
+    private String text;
+
+    public BookDescription(String text) {
+        this.text = text;
+    }
+}
@@ -1,23 +1,30 @@
 package com.rookies4.MySpringBootLab.entity;
 
+import com.rookies4.MySpringBootLab.search.BookFacetIndexListener;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate // 변경된 컬럼만 UPDATE
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bookDetail")
+@EntityListeners(BookFacetIndexListener.class) // 출판사/언어 패싯 색인 갱신
 @Getter
 @Setter
 @NoArgsConstructor
-@ToString(exclude = "book") // 순환 참조 방지
+@ToString(exclude = {"book", "descriptionBody"}) // 순환 참조 및 지연 로딩 방지
 public class BookDetail {
 
+    // Book과 기본 키를 공유 (book_detail.book_id, @MapsId로 book에서 채워짐)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String description;
     private String language;
     private Integer pageCount;
     private String publisher;
@@ -25,17 +32,40 @@ public class BookDetail {
     private String edition;
 
     // Book과의 1:1 관계 설정. BookDetail이 관계의 주인
+    // 외래 키가 곧 기본 키이므로 Book.bookDetail을 ID로 로딩할 수 있어 2차 캐시에서 바로 찾습니다.
+    @MapsId
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "book_id", unique = true)
+    @JoinColumn(name = "book_id")
     private Book book;
+
+    // 긴 설명은 별도 테이블(book_description)에 두고 getDescription() 호출 시에만 지연 로딩
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "description_id", unique = true)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private BookDescription descriptionBody;
     
     // 생성자
     public BookDetail(String description, String language, Integer pageCount, String publisher, String coverImageUrl, String edition) {
-        this.description = description;
+        setDescription(description);
         this.language = language;
         this.pageCount = pageCount;
         this.publisher = publisher;
         this.coverImageUrl = coverImageUrl;
         this.edition = edition;
     }
+
+    public String getDescription() {
+        return descriptionBody != null ? descriptionBody.getText() : null;
+    }
+
+    public void setDescription(String description) {
+        if (description == null) {
+            descriptionBody = null;
+        } else if (descriptionBody == null) {
+            descriptionBody = new BookDescription(description);
+        } else {
+            descriptionBody.setText(description);
+        }
+    }
 }
\ No newline at end of file
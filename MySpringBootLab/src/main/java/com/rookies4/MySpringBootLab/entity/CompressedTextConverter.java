@@ -0,0 +1,75 @@
+package com.rookies4.MySpringBootLab.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 긴 텍스트를 UTF-8 바이트로 저장하되, COMPRESS_THRESHOLD 이상이면 gzip으로 압축합니다.
+ * 첫 바이트는 형식 표시 (0: 원본 UTF-8, 1: gzip)이며, 압축해도 작아지지 않으면 원본으로 저장합니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int COMPRESS_THRESHOLD = 256;
+    private static final byte PLAIN = 0;
+    private static final byte GZIP = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESS_THRESHOLD) {
+            byte[] compressed = gzip(raw);
+            if (compressed.length < raw.length) {
+                return withHeader(GZIP, compressed);
+            }
+        }
+        return withHeader(PLAIN, raw);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        byte[] body = Arrays.copyOfRange(data, 1, data.length);
+        byte[] raw = data[0] == GZIP ? gunzip(body) : body;
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] withHeader(byte format, byte[] body) {
+        byte[] data = new byte[body.length + 1];
+        data[0] = format;
+        System.arraycopy(body, 0, data, 1, body.length);
+        return data;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
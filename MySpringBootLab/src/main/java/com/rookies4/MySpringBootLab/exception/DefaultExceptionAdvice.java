@@ -1,7 +1,10 @@
 package com.rookies4.MySpringBootLab.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,6 +24,19 @@ public class DefaultExceptionAdvice {
         return new ResponseEntity<>(errorObject, ex.getHttpStatus());
     }
 
+    // 동시 실행 한도 초과로 거절된 요청: 503과 함께 재시도 가능 시점을 Retry-After로 알림
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorObject> handleServiceOverloaded(ServiceOverloadedException ex) {
+        ErrorObject errorObject = ErrorObject.builder()
+                .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorObject);
+    }
+
     // 유효성 검증 실패 예외 처리 핸들러
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorObject> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -32,4 +48,26 @@ public class DefaultExceptionAdvice {
                 .build();
         return new ResponseEntity<>(errorObject, HttpStatus.BAD_REQUEST);
     }
+
+    // 커밋 시점에 발생한 제약 조건 위반(예: 대량 등록 중 동시에 등록된 ISBN) 처리 핸들러
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorObject> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        ErrorObject errorObject = ErrorObject.builder()
+                .statusCode(HttpStatus.CONFLICT.value())
+                .message("이미 등록된 데이터와 충돌합니다. (중복 ISBN 등)")
+                .timestamp(LocalDateTime.now())
+                .build();
+        return new ResponseEntity<>(errorObject, HttpStatus.CONFLICT);
+    }
+
+    // 같은 도서를 다른 요청이 먼저 수정하여 @Version 검증에 실패한 경우
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorObject> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        ErrorObject errorObject = ErrorObject.builder()
+                .statusCode(HttpStatus.CONFLICT.value())
+                .message("다른 요청이 먼저 도서를 수정했습니다. 다시 조회 후 시도해 주세요.")
+                .timestamp(LocalDateTime.now())
+                .build();
+        return new ResponseEntity<>(errorObject, HttpStatus.CONFLICT);
+    }
 }
\ No newline at end of file
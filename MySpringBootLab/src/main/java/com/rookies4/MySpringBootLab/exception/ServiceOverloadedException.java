@@ -0,0 +1,18 @@
+package com.rookies4.MySpringBootLab.exception;
+
+import org.springframework.http.HttpStatus;
+
+// 동시 실행 한도 초과로 요청을 즉시 거절할 때 사용 (503 + Retry-After)
+public class ServiceOverloadedException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,175 @@
+package com.rookies4.MySpringBootLab.limiter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측한 응답 시간(RTT)으로 동시 실행 한도를 조절하는 적응형 동시성 제한기입니다. (Gradient 방식 + 과부하 신호 시 AIMD 감소)
+ *
+ * - shortRtt    : 최근 응답 시간의 지수 이동 평균 (약 10건)
+ * - baselineRtt : 최근 두 구간(BASELINE_WINDOW)에서 관측한 최소 응답 시간, 대기 없이 처리될 때의 기준 지연
+ *   (평균으로 잡으면 과부하가 계속될 때 기준이 함께 올라가 한도가 다시 커지므로 최솟값을 사용하고,
+ *    DB가 영구적으로 느려진 경우에는 구간이 바뀌면서 새 최솟값을 기준으로 삼습니다.)
+ * - shortRtt / baselineRtt는 작업(operation, 예: 서비스 메서드)마다 따로 관측합니다.
+ *   한 한도를 지연이 크게 다른 작업이 함께 쓰면 가장 빠른 작업의 최솟값이 기준이 되어
+ *   느린 작업의 정상 지연만으로도 한도가 계속 줄어들기 때문입니다. (실행 중 요청 수와 한도는 공유)
+ * - gradient = clamp(rttTolerance * baselineRtt / shortRtt, 0.5, 1.0)
+ *   지연이 기준의 rttTolerance배 이내면 한도를 sqrt(limit)만큼 늘리고, 그 이상이면 비율만큼 줄입니다.
+ * - 커넥션 획득 실패/쿼리 타임아웃 같은 과부하 신호(dropped)는 지연과 무관하게 한도를 backoffRatio배로 줄입니다.
+ * - 실행 중인 요청이 한도의 절반에도 못 미치면(부하가 한도보다 낮으면) 한도를 늘리지 않습니다.
+ *
+ * 한도에 도달하면 대기하지 않고 바로 거절하므로, 초과 요청은 Tomcat/커넥션 풀 앞에 쌓이지 않고 즉시 실패합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int SHORT_WINDOW = 10;
+    private static final long BASELINE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final String DEFAULT_OPERATION = "default";
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // tryAcquire에서 잠금 없이 읽는 정수 한도 (estimatedLimit과 작업별 통계는 updateLock을 잡은 update 안에서만 갱신)
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile int limit;
+    private double estimatedLimit;
+    private final Map<Object, RttStats> rttStats = new HashMap<>();
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시성 한도는 1 <= min <= initial <= max 이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * 한도 안이면 실행 슬롯을 차지하고 true를 반환합니다. true를 받은 호출자는 반드시 onComplete를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 작업을 구분하지 않는 경우 (모든 요청이 같은 기준 지연을 사용)
+    public void onComplete(long rttNanos, boolean overloaded) {
+        onComplete(DEFAULT_OPERATION, rttNanos, overloaded);
+    }
+
+    /**
+     * 실행 슬롯을 반납하고 응답 시간을 반영합니다.
+     * @param operation 기준 지연을 따로 관측할 작업 (equals/hashCode로 구분)
+     * @param rttNanos 실행 시간
+     * @param overloaded 커넥션 획득 실패 등 하위 자원 과부하로 실패했는지 여부
+     */
+    public void onComplete(Object operation, long rttNanos, boolean overloaded) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        if (overloaded) {
+            dropped.increment();
+        }
+        update(operation, rttNanos, inflightAtCompletion, overloaded);
+    }
+
+    /**
+     * 응답 시간을 반영하지 않고 실행 슬롯만 반납합니다.
+     * (입력 검증 실패처럼 하위 자원을 거의 쓰지 않고 끝난 요청이 기준 지연을 끌어내리지 않도록)
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    private void update(Object operation, long rttNanos, int inflightAtCompletion, boolean overloaded) {
+        updateLock.lock();
+        try {
+            if (overloaded) {
+                setEstimatedLimit(estimatedLimit * BACKOFF_RATIO);
+                return;
+            }
+            RttStats stats = rttStats.computeIfAbsent(operation, key -> new RttStats());
+            stats.add(rttNanos);
+
+            if (inflightAtCompletion < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * stats.baselineRtt() / stats.shortRtt));
+            double queueSize = Math.max(1, Math.sqrt(estimatedLimit));
+            double newLimit = estimatedLimit * gradient + queueSize;
+            setEstimatedLimit(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void setEstimatedLimit(double value) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, value));
+        limit = (int) estimatedLimit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // 작업별 응답 시간 통계 (update 안에서만 접근)
+    private static final class RttStats {
+
+        private double shortRtt;
+        private long previousWindowMinRtt = Long.MAX_VALUE;
+        private long currentWindowMinRtt = Long.MAX_VALUE;
+        private long windowStartNanos = System.nanoTime();
+
+        void add(long rttNanos) {
+            long now = System.nanoTime();
+            if (now - windowStartNanos > BASELINE_WINDOW_NANOS) {
+                previousWindowMinRtt = currentWindowMinRtt;
+                currentWindowMinRtt = Long.MAX_VALUE;
+                windowStartNanos = now;
+            }
+            currentWindowMinRtt = Math.min(currentWindowMinRtt, rttNanos);
+            shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) * 2 / (SHORT_WINDOW + 1);
+        }
+
+        double baselineRtt() {
+            return Math.min(previousWindowMinRtt, currentWindowMinRtt);
+        }
+    }
+}
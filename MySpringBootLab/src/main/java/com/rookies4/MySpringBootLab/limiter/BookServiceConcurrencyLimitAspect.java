@@ -0,0 +1,137 @@
+package com.rookies4.MySpringBootLab.limiter;
+
+import com.rookies4.MySpringBootLab.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BookService의 public 메서드를 적응형 동시성 제한기로 감쌉니다.
+ * readOnly 트랜잭션 메서드는 읽기 한도, 그 외는 쓰기 한도를 사용하므로 쓰기 폭주가 조회를 막지 않습니다.
+ * 한도는 공유하지만 기준 지연은 메서드별로 관측하므로, 빠른 단건 조회와 느린 목록 조회가 섞여도 한도가 무너지지 않습니다.
+ * 한도 초과 시 트랜잭션(커넥션 획득)보다 먼저 ServiceOverloadedException으로 거절하며, DefaultExceptionAdvice가 503 + Retry-After로 응답합니다.
+ * 과부하 신호가 아닌 예외(404, 입력 검증 실패 등)로 끝난 호출은 DB 처리 시간을 나타내지 않으므로 지연 표본에서 제외합니다.
+ *
+ * 다음 메서드는 제한하지 않습니다. (UNLIMITED_METHODS)
+ * - exportBooks : 클라이언트가 읽는 속도만큼 오래 실행되는 스트리밍이라 지연 측정을 왜곡
+ * - suggestBooks : 메모리 색인만 사용
+ * - getBookJsonById/ByIsbn, getBookETagById/ByIsbn : 응답 캐시 적중 시에는 DB를 쓰지 않음.
+ *   캐시 미스 시 BookService가 프록시로 호출하는 loadBookJsonById/ByIsbn, loadBookETagById/ByIsbn은 읽기 한도를 적용받습니다.
+ * 메트릭: book.concurrency.limit / book.concurrency.inflight (현재 한도/실행 중), book.concurrency.rejected / book.concurrency.dropped (거절/과부하 실패 누적)
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BookServiceConcurrencyLimitAspect implements MeterBinder {
+
+    private static final Set<String> UNLIMITED_METHODS = Set.of(
+            "exportBooks", "suggestBooks", "getBookJsonById", "getBookJsonByIsbn", "getBookETagById", "getBookETagByIsbn");
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final long retryAfterSeconds;
+
+    // 메서드별 읽기/쓰기 구분 결과
+    private final Map<Method, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public BookServiceConcurrencyLimitAspect(ConcurrencyLimitProperties properties) {
+        this.readLimiter = limiter("read", properties.getRead(), properties.getRttTolerance());
+        this.writeLimiter = limiter("write", properties.getWrite(), properties.getRttTolerance());
+        this.retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+    }
+
+    @Around("execution(public * com.rookies4.MySpringBootLab.service.BookService.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (UNLIMITED_METHODS.contains(method.getName())) {
+            return joinPoint.proceed();
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(method, this::limiterFor);
+        if (!limiter.tryAcquire()) {
+            throw new ServiceOverloadedException("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+        }
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            if (isOverloadSignal(ex)) {
+                limiter.onComplete(method, System.nanoTime() - start, true);
+            } else {
+                limiter.release();
+            }
+            throw ex;
+        }
+        limiter.onComplete(method, System.nanoTime() - start, false);
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdaptiveConcurrencyLimiter limiter : List.of(readLimiter, writeLimiter)) {
+            Gauge.builder("book.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit for BookService calls")
+                    .tag("budget", limiter.getName())
+                    .register(registry);
+            Gauge.builder("book.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .description("BookService calls currently executing")
+                    .tag("budget", limiter.getName())
+                    .register(registry);
+            FunctionCounter.builder("book.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                    .description("BookService calls rejected with 503 because the concurrency limit was reached")
+                    .tag("budget", limiter.getName())
+                    .register(registry);
+            FunctionCounter.builder("book.concurrency.dropped", limiter, AdaptiveConcurrencyLimiter::getDroppedCount)
+                    .description("BookService calls that failed with a database overload signal")
+                    .tag("budget", limiter.getName())
+                    .register(registry);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter getReadLimiter() {
+        return readLimiter;
+    }
+
+    public AdaptiveConcurrencyLimiter getWriteLimiter() {
+        return writeLimiter;
+    }
+
+    // 메서드의 @Transactional이 없으면 클래스의 @Transactional(readOnly = true)를 따름
+    private AdaptiveConcurrencyLimiter limiterFor(Method method) {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), Transactional.class);
+        }
+        return transactional == null || transactional.readOnly() ? readLimiter : writeLimiter;
+    }
+
+    // 커넥션 획득 실패/타임아웃, 쿼리/잠금 타임아웃은 지연과 무관하게 한도를 줄이는 신호로 사용
+    private static boolean isOverloadSignal(Throwable ex) {
+        return ex instanceof CannotCreateTransactionException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof QueryTimeoutException
+                || ex instanceof CannotAcquireLockException;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String name, ConcurrencyLimitProperties.Budget budget, double rttTolerance) {
+        return new AdaptiveConcurrencyLimiter(name, budget.getInitialLimit(), budget.getMinLimit(), budget.getMaxLimit(), rttTolerance);
+    }
+}
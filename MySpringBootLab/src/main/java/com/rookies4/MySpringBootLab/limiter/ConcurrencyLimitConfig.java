@@ -0,0 +1,20 @@
+package com.rookies4.MySpringBootLab.limiter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * BookService 적응형 동시성 제한 설정입니다. book.concurrency-limit.enabled=false 로 끌 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "book.concurrency-limit", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public BookServiceConcurrencyLimitAspect bookServiceConcurrencyLimitAspect(ConcurrencyLimitProperties properties) {
+        return new BookServiceConcurrencyLimitAspect(properties);
+    }
+}
@@ -0,0 +1,104 @@
+package com.rookies4.MySpringBootLab.limiter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// book.concurrency-limit. 접두사로 시작하는 BookService 동시성 제한 설정을 바인딩
+@ConfigurationProperties(prefix = "book.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // 읽기(readOnly 트랜잭션) 메서드 한도
+    private Budget read = new Budget(40, 4, 200);
+
+    // 쓰기 메서드 한도 (행 잠금/플러시로 DB 부담이 커서 더 작게 시작)
+    private Budget write = new Budget(10, 2, 50);
+
+    // 최근 지연이 기준 지연의 몇 배까지를 정상으로 볼지
+    private double rttTolerance = 1.5;
+
+    // 거절 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Budget getRead() {
+        return read;
+    }
+
+    public Budget getWrite() {
+        return write;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setRead(Budget read) {
+        this.read = read;
+    }
+
+    public void setWrite(Budget write) {
+        this.write = write;
+    }
+
+    public void setRttTolerance(double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public static class Budget {
+
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Budget() {
+        }
+
+        public Budget(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.rookies4.MySpringBootLab.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private RequestQueryMetricsInterceptor requestQueryMetricsInterceptor;
+
+    // BookService의 @Timed 메서드 타이머 활성화
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // 요청당 SQL 문장 수/로딩 엔티티 수 집계를 위한 Hibernate 확장 등록
+    @Bean
+    public HibernatePropertiesCustomizer requestQueryStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new EntityLoadCountingIntegrator()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestQueryMetricsInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,63 @@
+package com.rookies4.MySpringBootLab.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청마다 실행된 JDBC 문장 수와 로딩된 엔티티 수를 엔드포인트별 분포 메트릭으로 기록합니다.
+ * - book.request.jdbc.statements : 요청당 SQL 문장 수
+ * - book.request.entities.loaded : 요청당 로딩된 엔티티 수
+ * 태그 endpoint는 "GET /api/books/{id}" 형태의 매핑 패턴이므로, 목록/검색 API의 N+1 회귀가 max/평균 증가로 바로 드러납니다.
+ * 비동기 처리(/export의 StreamingResponseBody)는 첫 디스패치에서 afterCompletion이 호출되지 않으므로
+ * afterConcurrentHandlingStarted에서 요청 스레드의 집계를 정리합니다. 비동기 스레드에서 실행된 SQL은 집계되지 않습니다.
+ */
+@Component
+public class RequestQueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestQueryStatistics.start();
+        return true;
+    }
+
+    // 요청 스레드가 컨테이너로 반환되므로 ThreadLocal이 다음 요청에 남지 않도록 제거
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestQueryStatistics.finish();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long[] counts = RequestQueryStatistics.finish();
+        if (counts == null) {
+            return;
+        }
+        String endpoint = request.getMethod() + " " + bestMatchingPattern(request);
+        DistributionSummary.builder("book.request.jdbc.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counts[0]);
+        DistributionSummary.builder("book.request.entities.loaded")
+                .description("JPA entities loaded per HTTP request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counts[1]);
+    }
+
+    private String bestMatchingPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,43 @@
+package com.rookies4.MySpringBootLab.metrics;
+
+/**
+ * 현재 HTTP 요청(스레드)에서 실행된 JDBC 문장 수와 로딩된 엔티티 수를 집계합니다.
+ * RequestQueryMetricsInterceptor가 요청 시작/종료 시 start/finish를 호출하고,
+ * Hibernate의 StatementInspector와 PostLoad 이벤트 리스너가 값을 증가시킵니다.
+ * 요청 밖(기동, 배치 등)에서 실행된 쿼리는 집계하지 않습니다.
+ */
+public final class RequestQueryStatistics {
+
+    private static final ThreadLocal<long[]> COUNTS = new ThreadLocal<>();
+
+    private static final int STATEMENTS = 0;
+    private static final int ENTITIES = 1;
+
+    private RequestQueryStatistics() {
+    }
+
+    static void start() {
+        COUNTS.set(new long[2]);
+    }
+
+    // [JDBC 문장 수, 로딩된 엔티티 수]를 반환하고 집계를 종료합니다. (집계 중이 아니면 null)
+    static long[] finish() {
+        long[] counts = COUNTS.get();
+        COUNTS.remove();
+        return counts;
+    }
+
+    static void incrementStatements() {
+        long[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[STATEMENTS]++;
+        }
+    }
+
+    static void incrementEntities() {
+        long[] counts = COUNTS.get();
+        if (counts != null) {
+            counts[ENTITIES]++;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.rookies4.MySpringBootLab.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 준비(prepare)하는 모든 SQL 문장을 현재 요청의 문장 수로 집계합니다.
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStatistics.incrementStatements();
+        return sql;
+    }
+}
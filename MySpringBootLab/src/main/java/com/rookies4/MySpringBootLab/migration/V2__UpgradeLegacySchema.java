@@ -0,0 +1,152 @@
+package com.rookies4.MySpringBootLab.migration;
+
+import com.rookies4.MySpringBootLab.entity.CompressedTextConverter;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * ddl-auto=update로 만들어진 기존 DB(V1 기준으로 baseline 처리됨)를 현재 엔티티 매핑에 맞게 보정합니다.
+ * 새로 생성된 DB에서는 모든 단계가 변경 없이 지나가므로 반복 실행해도 안전합니다.
+ * - V1이 만드는 컬럼/테이블/시퀀스 중 없는 것을 생성 (book.version, book_description, book_detail.description_id, *_seq)
+ * - book_detail.id의 AUTO_INCREMENT(IDENTITY) 제거 (V4에서 기본 키를 book_id로 옮길 수 있도록)
+ * - book_detail.description(구 컬럼)의 설명을 book_description으로 옮기고 컬럼 삭제
+ * - @Version 도입 전 행의 NULL version을 0으로 채움
+ * - IDENTITY로 채번된 기존 ID와 겹치지 않도록 시퀀스를 MAX(id) 이후로 재설정
+ */
+public class V2__UpgradeLegacySchema extends BaseJavaMigration {
+
+    // 엔티티 @SequenceGenerator의 allocationSize와 동일
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        createMissingSchema(connection);
+        moveLegacyDescriptions(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE book SET version = 0 WHERE version IS NULL");
+        }
+        restartSequenceAfterMaxId(connection, "book_seq", "book");
+        restartSequenceAfterMaxId(connection, "book_detail_seq", "book_detail");
+        restartSequenceAfterMaxId(connection, "book_description_seq", "book_description");
+    }
+
+    // baseline 처리된 DB에는 V1이 실행되지 않았으므로, 엔티티 ID 전환(IDENTITY -> 시퀀스) 이전 스키마일 수 있습니다.
+    private void createMissingSchema(Connection connection) throws SQLException {
+        boolean h2 = connection.getMetaData().getDatabaseProductName().equals("H2");
+        try (Statement statement = connection.createStatement()) {
+            for (String sequence : new String[]{"book_seq", "book_detail_seq", "book_description_seq"}) {
+                statement.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            }
+            if (!hasColumn(connection, "book", "version")) {
+                statement.execute("ALTER TABLE book ADD COLUMN version BIGINT NOT NULL DEFAULT 0");
+            }
+            if (!hasTable(connection, "book_description")) {
+                statement.execute("CREATE TABLE book_description (id BIGINT NOT NULL, content LONGBLOB, PRIMARY KEY (id))");
+            }
+            if (!hasColumn(connection, "book_detail", "description_id")) {
+                statement.execute("ALTER TABLE book_detail ADD COLUMN description_id BIGINT");
+                statement.execute("ALTER TABLE book_detail ADD CONSTRAINT uk_book_detail_description UNIQUE (description_id)");
+                statement.execute("ALTER TABLE book_detail ADD CONSTRAINT fk_book_detail_description "
+                        + "FOREIGN KEY (description_id) REFERENCES book_description (id)");
+            }
+            // 자동 증가 컬럼은 기본 키에서 뺄 수 없으므로(MariaDB) 속성만 제거하고 값은 유지
+            if (isAutoIncrement(connection, "book_detail", "id")) {
+                statement.execute(h2
+                        ? "ALTER TABLE book_detail ALTER COLUMN id DROP IDENTITY"
+                        : "ALTER TABLE book_detail MODIFY id BIGINT NOT NULL");
+            }
+        }
+    }
+
+    private void moveLegacyDescriptions(Connection connection) throws SQLException {
+        if (!hasColumn(connection, "book_detail", "description")) {
+            return;
+        }
+        CompressedTextConverter converter = new CompressedTextConverter();
+        long nextId = maxId(connection, "book_description") + 1;
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery(
+                     "SELECT id, description FROM book_detail WHERE description IS NOT NULL AND description_id IS NULL");
+             PreparedStatement insert = connection.prepareStatement("INSERT INTO book_description (id, content) VALUES (?, ?)");
+             PreparedStatement link = connection.prepareStatement("UPDATE book_detail SET description_id = ? WHERE id = ?")) {
+            while (rs.next()) {
+                long descriptionId = nextId++;
+                insert.setLong(1, descriptionId);
+                insert.setBytes(2, converter.convertToDatabaseColumn(rs.getString("description")));
+                insert.executeUpdate();
+                link.setLong(1, descriptionId);
+                link.setLong(2, rs.getLong("id"));
+                link.executeUpdate();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE book_detail DROP COLUMN description");
+        }
+    }
+
+    // pooled 옵티마이저는 시퀀스 값 v에 대해 (v - allocationSize, v] 구간의 ID를 사용하므로 v >= MAX(id) + allocationSize 여야 합니다.
+    private void restartSequenceAfterMaxId(Connection connection, String sequence, String table) throws SQLException {
+        long maxId = maxId(connection, table);
+        long next;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT NEXT VALUE FOR " + sequence)) {
+            rs.next();
+            next = rs.getLong(1);
+        }
+        if (next < maxId + ALLOCATION_SIZE) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + ALLOCATION_SIZE));
+            }
+        }
+    }
+
+    private long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // MariaDB는 소문자, H2는 대문자로 메타데이터를 저장하므로 두 경우 모두 확인
+    private boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        return columnAttribute(connection, table, column, "COLUMN_NAME") != null;
+    }
+
+    private boolean isAutoIncrement(Connection connection, String table, String column) throws SQLException {
+        return "YES".equals(columnAttribute(connection, table, column, "IS_AUTOINCREMENT"));
+    }
+
+    // 컬럼이 없으면 null
+    private String columnAttribute(Connection connection, String table, String column, String attribute) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String[] names : new String[][]{{table, column}, {table.toUpperCase(), column.toUpperCase()}}) {
+            try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, names[0], names[1])) {
+                if (rs.next()) {
+                    return rs.getString(attribute);
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean hasTable(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                if (rs.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
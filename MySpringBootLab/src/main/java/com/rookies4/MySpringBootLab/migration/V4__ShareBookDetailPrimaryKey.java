@@ -0,0 +1,41 @@
+package com.rookies4.MySpringBootLab.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * book_detail의 기본 키를 book_id로 바꿔 Book과 기본 키를 공유하도록 합니다. (BookDetail.book @MapsId)
+ * Book.bookDetail(mappedBy 쪽)을 ID로 찾을 수 있어야 Book을 2차 캐시에서 조립할 때 book_detail을 조회하지 않습니다.
+ * - 도서와 연결되지 않은 상세 정보와 참조되지 않는 설명 본문 삭제 (기본 키를 부여할 수 없음)
+ * - id 컬럼/book_detail_seq 시퀀스 삭제 후 book_id를 NOT NULL 기본 키로 지정
+ * 기존 book_id 유니크 인덱스는 외래 키가 사용하므로 그대로 둡니다.
+ */
+public class V4__ShareBookDetailPrimaryKey extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM book_detail WHERE book_id IS NULL");
+            statement.executeUpdate("DELETE FROM book_description WHERE id NOT IN "
+                    + "(SELECT description_id FROM book_detail WHERE description_id IS NOT NULL)");
+            statement.execute("ALTER TABLE book_detail DROP PRIMARY KEY");
+            statement.execute("ALTER TABLE book_detail DROP COLUMN id");
+            statement.execute(notNullBookId(connection));
+            statement.execute("ALTER TABLE book_detail ADD PRIMARY KEY (book_id)");
+            statement.execute("DROP SEQUENCE book_detail_seq");
+        }
+    }
+
+    // NOT NULL 변경 문법이 DB마다 다름 (MariaDB/MySQL: MODIFY, H2: ALTER COLUMN ... SET NOT NULL)
+    private String notNullBookId(Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseProductName().equals("H2")) {
+            return "ALTER TABLE book_detail ALTER COLUMN book_id SET NOT NULL";
+        }
+        return "ALTER TABLE book_detail MODIFY book_id BIGINT NOT NULL";
+    }
+}
@@ -11,9 +11,16 @@ import java.util.Optional;
 
 @Repository
 public interface BookDetailRepository extends JpaRepository<BookDetail, Long> {
-    Optional<BookDetail> findByBookId(Long bookId);
+    // 파생 쿼리(findByBookId)는 book 테이블을 LEFT JOIN 한 뒤 b.id로 거르므로 book_detail 전체 스캔이 됩니다.
+    // FK 컬럼(book_id, 유니크 인덱스)으로 바로 조회하도록 JPQL로 작성합니다.
+    @Query("SELECT bd FROM BookDetail bd WHERE bd.book.id = :bookId")
+    Optional<BookDetail> findByBookId(@Param("bookId") Long bookId);
     List<BookDetail> findByPublisher(String publisher);
 
     @Query("SELECT bd FROM BookDetail bd JOIN FETCH bd.book WHERE bd.id = :id")
     Optional<BookDetail> findByIdWithBook(@Param("id") Long id);
+
+    // 도서의 설명 본문만 조회 (book_detail -> book_description)
+    @Query("SELECT bd.descriptionBody.text FROM BookDetail bd WHERE bd.book.id = :bookId")
+    Optional<String> findDescriptionByBookId(@Param("bookId") Long bookId);
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.rookies4.MySpringBootLab.repository;
+
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ?fields= 파라미터로 요청된 응답 필드 목록입니다. (BookResponse의 JSON 필드명 기준)
+ * - 도서 필드 : id, title, author, isbn, price, publishDate, version
+ * - 상세 필드 : detailResponse.publisher 등, detailResponse만 쓰면 description을 제외한 상세 필드 전체
+ *   (description은 별도 테이블이므로 detailResponse.description으로 명시한 경우에만 조인)
+ * id는 커서/정렬에 필요하므로 항상 포함됩니다. 상세 필드가 없으면 BookDetail 조인도 하지 않습니다.
+ */
+public final class BookFieldSelection {
+
+    public static final String DETAIL = "detailResponse";
+
+    private static final List<String> BOOK_FIELDS =
+            List.of("id", "title", "author", "isbn", "price", "publishDate", "version");
+    private static final List<String> DETAIL_FIELDS =
+            List.of("description", "language", "pageCount", "publisher", "coverImageUrl", "edition");
+
+    // 조회할 필드 (요청 필드 + 서비스 내부에서 필요한 필드), 튜플의 컬럼 순서와 같음
+    private final List<String> selected;
+    // 응답에 포함할 필드
+    private final Set<String> requested;
+
+    private BookFieldSelection(List<String> selected, Set<String> requested) {
+        this.selected = selected;
+        this.requested = requested;
+    }
+
+    /**
+     * 쉼표로 구분된 필드 목록을 해석합니다.
+     * @throws IllegalArgumentException 지원하지 않는 필드가 포함된 경우
+     */
+    public static BookFieldSelection parse(String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String token : fields.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (field.equals(DETAIL)) {
+                DETAIL_FIELDS.stream()
+                        .filter(name -> !name.equals("description"))
+                        .forEach(name -> requested.add(DETAIL + "." + name));
+            } else if (BOOK_FIELDS.contains(field) || isDetailField(field)) {
+                requested.add(field);
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + field);
+            }
+        }
+        return new BookFieldSelection(canonicalOrder(requested), requested);
+    }
+
+    // 응답에는 넣지 않고 조회만 추가할 필드 (예: 검색 결과 재확인용 title/author)
+    public BookFieldSelection including(String field) {
+        if (selected.contains(field)) {
+            return this;
+        }
+        Set<String> fields = new LinkedHashSet<>(selected);
+        fields.add(field);
+        return new BookFieldSelection(canonicalOrder(fields), requested);
+    }
+
+    public List<String> getSelected() {
+        return selected;
+    }
+
+    public boolean requiresDetail() {
+        return selected.stream().anyMatch(BookFieldSelection::isDetailField);
+    }
+
+    public Object value(Tuple tuple, String field) {
+        return tuple.get(selected.indexOf(field));
+    }
+
+    /**
+     * 조회 결과 튜플을 요청 필드만 담은 응답 Map으로 변환합니다.
+     * 상세 필드는 BookResponse와 같은 형태로 detailResponse 아래에 두며, 상세 정보가 없는 도서는 detailResponse가 null입니다.
+     * (BookRepositoryImpl은 상세 필드 조회 시 마지막 컬럼에 BookDetail ID를 추가합니다.)
+     */
+    public Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> book = new LinkedHashMap<>();
+        Map<String, Object> detail = null;
+        boolean hasDetail = requiresDetail() && tuple.get(selected.size()) != null;
+        for (int i = 0; i < selected.size(); i++) {
+            String field = selected.get(i);
+            if (!requested.contains(field)) {
+                continue;
+            }
+            if (!isDetailField(field)) {
+                book.put(field, tuple.get(i));
+            } else if (hasDetail) {
+                if (detail == null) {
+                    detail = new LinkedHashMap<>();
+                }
+                detail.put(field.substring(DETAIL.length() + 1), tuple.get(i));
+            }
+        }
+        if (requested.stream().anyMatch(BookFieldSelection::isDetailField)) {
+            book.put(DETAIL, detail);
+        }
+        return book;
+    }
+
+    static boolean isDetailField(String field) {
+        return field.startsWith(DETAIL + ".") && DETAIL_FIELDS.contains(field.substring(DETAIL.length() + 1));
+    }
+
+    private static List<String> canonicalOrder(Set<String> fields) {
+        List<String> ordered = new ArrayList<>();
+        for (String name : BOOK_FIELDS) {
+            if (fields.contains(name)) {
+                ordered.add(name);
+            }
+        }
+        for (String name : DETAIL_FIELDS) {
+            if (fields.contains(DETAIL + "." + name)) {
+                ordered.add(DETAIL + "." + name);
+            }
+        }
+        return List.copyOf(ordered);
+    }
+}
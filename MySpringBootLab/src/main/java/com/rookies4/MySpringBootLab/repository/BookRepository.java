@@ -1,32 +1,99 @@
 package com.rookies4.MySpringBootLab.repository;
 
 import com.rookies4.MySpringBootLab.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+// findByIsbn, existsByIsbn은 ISBN 자연 키 2차 캐시를 쓰도록 BookRepositoryCustom에서 구현합니다.
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookRepositoryCustom {
 
-    // ISBN으로 도서 조회
-    Optional<Book> findByIsbn(String isbn);
+    // 조건부 조회(If-None-Match)용 프로젝션 (id, 버전만 조회)
+    interface BookVersionView {
+        Long getId();
+        Long getVersion();
+    }
+
+    // 검색 색인 생성용 프로젝션 (id, 제목, 저자만 조회)
+    interface BookLabelView {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+    }
+
+    // 패싯 색인 생성용 프로젝션 (가격, 출판일, 상세의 출판사/언어)
+    interface BookFacetView {
+        Long getId();
+        Integer getPrice();
+        LocalDate getPublishDate();
+        String getPublisher();
+        String getLanguage();
+    }
+
+    // Book.bookDetail은 mappedBy 쪽이라 지연 로딩이 불가능하므로,
+    // 목록/검색 쿼리는 EntityGraph로 BookDetail을 LEFT JOIN 하여 한 번의 쿼리로 가져옵니다. (N+1 방지)
+    @Override
+    @EntityGraph(attributePaths = "bookDetail")
+    List<Book> findAll();
 
     // 저자명으로 도서 목록 조회
+    @EntityGraph(attributePaths = "bookDetail")
     List<Book> findByAuthor(String author);
 
-    // ISBN으로 도서 존재 여부 확인
-    boolean existsByIsbn(String isbn);
+    // 주어진 ISBN 중 이미 등록된 ISBN만 한 번의 쿼리로 조회 (대량 등록 중복 검증용)
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    Set<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    // 전체 ISBN 조회 (ISBN Bloom 필터 초기화용)
+    @Query("SELECT b.isbn FROM Book b")
+    List<String> findAllIsbns();
 
     // 저자명에 특정 문자열이 포함된 도서 목록 조회
+    @EntityGraph(attributePaths = "bookDetail")
     List<Book> findByAuthorContaining(String author);
 
     // 제목에 특정 문자열이 포함된 도서 목록 조회
+    @EntityGraph(attributePaths = "bookDetail")
     List<Book> findByTitleContaining(String title);
 
+    // 커서(마지막으로 조회한 ID) 이후의 도서를 ID 오름차순으로 limit 건만 조회 (Keyset 페이지네이션)
+    @EntityGraph(attributePaths = "bookDetail")
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // ID / ISBN으로 도서의 버전만 조회 (캐시 미스 시 ETag 비교용)
+    @Query("SELECT b.id AS id, b.version AS version FROM Book b WHERE b.id = :id")
+    Optional<BookVersionView> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT b.id AS id, b.version AS version FROM Book b WHERE b.isbn = :isbn")
+    Optional<BookVersionView> findVersionByIsbn(@Param("isbn") String isbn);
+
+    // 검색 색인 생성을 위해 전체 도서의 id, 제목, 저자만 조회
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author FROM Book b")
+    List<BookLabelView> findAllLabels();
+
+    // 패싯 색인 생성을 위해 전체 도서의 가격/출판일과 상세의 출판사/언어만 조회
+    @Query("SELECT b.id AS id, b.price AS price, b.publishDate AS publishDate, " +
+            "d.publisher AS publisher, d.language AS language FROM Book b LEFT JOIN b.bookDetail d")
+    List<BookFacetView> findAllFacets();
+
+    // 여러 ID의 도서를 BookDetail과 함께 ID 오름차순으로 조회 (검색 색인 결과 조회용)
+    @EntityGraph(attributePaths = "bookDetail")
+    List<Book> findByIdInOrderByIdAsc(Collection<Long> ids);
+
     // ID로 도서와 관련 BookDetail을 함께 조회 (FETCH JOIN)
     @Query("SELECT b FROM Book b JOIN FETCH b.bookDetail WHERE b.id = :id")
     Optional<Book> findByIdWithBookDetail(@Param("id") Long id);
@@ -34,4 +101,14 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     // ISBN으로 도서와 관련 BookDetail을 함께 조회 (FETCH JOIN)
     @Query("SELECT b FROM Book b JOIN FETCH b.bookDetail WHERE b.isbn = :isbn")
     Optional<Book> findByIsbnWithBookDetail(@Param("isbn") String isbn);
+
+    // 전체 도서를 BookDetail, 설명 본문(book_description)과 함께 스트리밍 조회 (카탈로그 Export 용)
+    // JDBC fetch size 단위로 커서에서 읽어오며, 읽기 전용 힌트로 스냅샷(dirty checking용 복사본)을 만들지 않습니다.
+    // 반환된 Stream은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b LEFT JOIN FETCH b.bookDetail d LEFT JOIN FETCH d.descriptionBody ORDER BY b.id")
+    Stream<Book> streamAllWithBookDetail();
 }
\ No newline at end of file
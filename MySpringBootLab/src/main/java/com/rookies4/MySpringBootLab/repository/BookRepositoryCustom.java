@@ -0,0 +1,32 @@
+package com.rookies4.MySpringBootLab.repository;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// ?fields= 요청용 동적 프로젝션 조회 (요청된 컬럼만 SELECT, 상세 필드가 있을 때만 BookDetail LEFT JOIN)
+// 및 ISBN 자연 키 조회 (Hibernate 2차 캐시 사용)
+public interface BookRepositoryCustom {
+
+    // ISBN으로 도서 조회. ISBN -> ID 매핑과 도서 엔티티 모두 2차 캐시에 있으면 SQL을 실행하지 않음
+    Optional<Book> findByIsbn(String isbn);
+
+    // ISBN으로 도서 존재 여부 확인. ISBN -> ID 매핑만 확인하며 도서 엔티티는 로딩하지 않음
+    boolean existsByIsbn(String isbn);
+
+    // 키셋 페이지네이션: ID가 afterId보다 큰 도서를 ID 오름차순으로 최대 limit건
+    List<Tuple> findFieldsByIdGreaterThan(BookFieldSelection selection, long afterId, int limit);
+
+    List<Tuple> findFieldsByIdIn(BookFieldSelection selection, Collection<Long> ids);
+
+    Optional<Tuple> findFieldsById(BookFieldSelection selection, Long id);
+
+    Optional<Tuple> findFieldsByIsbn(BookFieldSelection selection, String isbn);
+
+    List<Tuple> findFieldsByAuthorContaining(BookFieldSelection selection, String author);
+
+    List<Tuple> findFieldsByTitleContaining(BookFieldSelection selection, String title);
+}
@@ -0,0 +1,106 @@
+package com.rookies4.MySpringBootLab.repository;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+// BookRepositoryCustom 구현 (Spring Data가 Impl 접미사로 찾아 BookRepository에 결합)
+public class BookRepositoryImpl implements BookRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Book> findByIsbn(String isbn) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Book.class).loadOptional(isbn);
+    }
+
+    // getReference는 엔티티를 로딩하지 않고 ID만 확인하며, 없는 ISBN이면 null을 반환
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Book.class).getReference(isbn) != null;
+    }
+
+    @Override
+    public List<Tuple> findFieldsByIdGreaterThan(BookFieldSelection selection, long afterId, int limit) {
+        return query(selection, (cb, book) -> cb.greaterThan(book.get("id"), afterId))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByIdIn(BookFieldSelection selection, Collection<Long> ids) {
+        return query(selection, (cb, book) -> book.get("id").in(ids)).getResultList();
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsById(BookFieldSelection selection, Long id) {
+        return query(selection, (cb, book) -> cb.equal(book.get("id"), id)).getResultStream().findFirst();
+    }
+
+    @Override
+    public Optional<Tuple> findFieldsByIsbn(BookFieldSelection selection, String isbn) {
+        return query(selection, (cb, book) -> cb.equal(book.get("isbn"), isbn)).getResultStream().findFirst();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByAuthorContaining(BookFieldSelection selection, String author) {
+        return query(selection, (cb, book) -> cb.like(book.get("author"), containing(author), '\\')).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findFieldsByTitleContaining(BookFieldSelection selection, String title) {
+        return query(selection, (cb, book) -> cb.like(book.get("title"), containing(title), '\\')).getResultList();
+    }
+
+    private TypedQuery<Tuple> query(BookFieldSelection selection,
+                                    BiFunction<CriteriaBuilder, Root<Book>, Predicate> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Book> book = query.from(Book.class);
+        Join<Book, BookDetail> detail = selection.requiresDetail() ? book.join("bookDetail", JoinType.LEFT) : null;
+
+        List<Selection<?>> columns = new ArrayList<>();
+        for (String field : selection.getSelected()) {
+            if (field.equals(BookFieldSelection.DETAIL + ".description")) {
+                columns.add(detail.join("descriptionBody", JoinType.LEFT).get("text"));
+            } else if (BookFieldSelection.isDetailField(field)) {
+                columns.add(detail.get(field.substring(BookFieldSelection.DETAIL.length() + 1)));
+            } else {
+                columns.add(book.get(field));
+            }
+        }
+        // 상세 정보 존재 여부 확인용 (BookFieldSelection.toMap에서 사용)
+        if (detail != null) {
+            columns.add(detail.get("id"));
+        }
+
+        query.multiselect(columns)
+                .where(where.apply(cb, book))
+                .orderBy(cb.asc(book.get("id")));
+        return entityManager.createQuery(query);
+    }
+
+    // Spring Data의 Containing 키워드와 같이 LIKE 와일드카드 문자를 이스케이프
+    private static String containing(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,130 @@
+package com.rookies4.MySpringBootLab.search;
+
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가격/출판일 범위와 출판사/언어 조건의 패싯 검색 색인입니다. (FacetIndex)
+ * 애플리케이션 기동 시 전체 도서로 색인을 만들고, 이후에는 BookFacetIndexListener가 커밋된 변경을 반영합니다.
+ * BookSearchIndex와 같이 새 인스턴스에 색인을 만든 뒤, 생성 중에 커밋된 변경을 다시 적용하고 교체합니다.
+ */
+@Component
+public class BookFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookFacetIndex.class);
+
+    private volatile FacetIndex index = new FacetIndex();
+
+    // 쓰기와 색인 교체 직렬화, 색인 생성 중 커밋된 변경 (도서 ID -> 최종 값, 삭제는 null). 생성 중이 아니면 null
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, Facets> pendingChanges;
+
+    // 초기 색인 완료 전에는 패싯 검색 요청을 503으로 거절합니다.
+    private volatile boolean ready;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        FacetIndex rebuilt = new FacetIndex();
+        List<BookRepository.BookFacetView> books;
+        try {
+            books = bookRepository.findAllFacets();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        for (BookRepository.BookFacetView book : books) {
+            rebuilt.put(book.getId(), book.getPrice(), book.getPublishDate(), book.getPublisher(), book.getLanguage());
+        }
+        lock.lock();
+        try {
+            pendingChanges.forEach((id, facets) -> {
+                if (facets == null) {
+                    rebuilt.remove(id);
+                } else {
+                    rebuilt.put(id, facets.price, facets.publishDate, facets.publisher, facets.language);
+                }
+            });
+            pendingChanges = null;
+            index = rebuilt;
+        } finally {
+            lock.unlock();
+        }
+        ready = true;
+        logger.info("도서 패싯 색인 생성 완료: {}건, {}ms", books.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Long id, Integer price, LocalDate publishDate, String publisher, String language) {
+        lock.lock();
+        try {
+            index.put(id, price, publishDate, publisher, language);
+            if (pendingChanges != null) {
+                pendingChanges.put(id, new Facets(price, publishDate, publisher, language));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.lock();
+        try {
+            index.remove(id);
+            if (pendingChanges != null) {
+                pendingChanges.put(id, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public FacetIndex.Result search(Integer minPrice, Integer maxPrice, LocalDate publishedFrom, LocalDate publishedTo,
+                                    Collection<String> publishers, Collection<String> languages,
+                                    long afterId, int limit) {
+        return index.search(minPrice, maxPrice, publishedFrom, publishedTo, publishers, languages, afterId, limit);
+    }
+
+    private static final class Facets {
+        private final Integer price;
+        private final LocalDate publishDate;
+        private final String publisher;
+        private final String language;
+
+        private Facets(Integer price, LocalDate publishDate, String publisher, String language) {
+            this.price = price;
+            this.publishDate = publishDate;
+            this.publisher = publisher;
+            this.language = language;
+        }
+    }
+}
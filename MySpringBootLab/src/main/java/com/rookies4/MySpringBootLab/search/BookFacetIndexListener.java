@@ -0,0 +1,51 @@
+package com.rookies4.MySpringBootLab.search;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.transaction.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Book/BookDetail 엔티티 생명주기 이벤트를 받아 BookFacetIndex를 갱신하는 JPA 엔티티 리스너입니다.
+ * 출판사/언어는 BookDetail에 있으므로 상세 정보만 수정된 경우에도 도서 단위로 다시 색인합니다.
+ * BookSearchIndexListener와 같이 커밋 이후에 반영하고, BookFacetIndex는 @Lazy 프록시로 주입받습니다.
+ */
+@Component
+public class BookFacetIndexListener {
+
+    @Autowired
+    @Lazy
+    private BookFacetIndex bookFacetIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        Book book = entity instanceof BookDetail detail ? detail.getBook() : (Book) entity;
+        if (book == null) {
+            return;
+        }
+        // 커밋 시점에는 엔티티가 바뀌었을 수 있으므로 현재 값을 캡처해 둡니다.
+        Long id = book.getId();
+        Integer price = book.getPrice();
+        LocalDate publishDate = book.getPublishDate();
+        BookDetail detail = book.getBookDetail();
+        String publisher = detail != null ? detail.getPublisher() : null;
+        String language = detail != null ? detail.getLanguage() : null;
+        TransactionCallbacks.afterCommit(() -> bookFacetIndex.put(id, price, publishDate, publisher, language));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Book book) {
+            Long id = book.getId();
+            TransactionCallbacks.afterCommit(() -> bookFacetIndex.remove(id));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.rookies4.MySpringBootLab.search;
+
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Book.title / Book.author에 대한 메모리 n-gram 색인입니다.
+ * 애플리케이션 기동 시 전체 도서로 색인을 만들고, 이후에는 BookSearchIndexListener가 커밋된 변경을 반영합니다.
+ * 기동 직후에도 요청(쓰기)을 처리하므로 색인은 새 인스턴스에 만든 뒤 교체하며,
+ * 생성 중에 커밋된 변경은 DB 조회 결과보다 새 값일 수 있어 따로 모았다가 교체 직전에 새 색인에 다시 적용합니다.
+ */
+@Component
+public class BookSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSearchIndex.class);
+
+    private volatile NgramIndex titleIndex = new NgramIndex();
+    private volatile NgramIndex authorIndex = new NgramIndex();
+
+    // 쓰기와 색인 교체 직렬화, 색인 생성 중 커밋된 변경 (도서 ID -> 최종 값, 삭제는 null). 생성 중이 아니면 null
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, String[]> pendingChanges;
+
+    // 초기 색인 완료 전에는 BookService가 DB LIKE 검색으로 대체합니다.
+    private volatile boolean ready;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.unlock();
+        }
+        NgramIndex titles = new NgramIndex();
+        NgramIndex authors = new NgramIndex();
+        List<BookRepository.BookLabelView> books;
+        try {
+            books = bookRepository.findAllLabels();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        for (BookRepository.BookLabelView book : books) {
+            titles.put(book.getId(), book.getTitle());
+            authors.put(book.getId(), book.getAuthor());
+        }
+        lock.lock();
+        try {
+            pendingChanges.forEach((id, labels) -> {
+                if (labels == null) {
+                    titles.remove(id);
+                    authors.remove(id);
+                } else {
+                    titles.put(id, labels[0]);
+                    authors.put(id, labels[1]);
+                }
+            });
+            pendingChanges = null;
+            titleIndex = titles;
+            authorIndex = authors;
+        } finally {
+            lock.unlock();
+        }
+        ready = true;
+        logger.info("도서 검색 색인 생성 완료: {}건, {}ms", books.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Long id, String title, String author) {
+        lock.lock();
+        try {
+            titleIndex.put(id, title);
+            authorIndex.put(id, author);
+            if (pendingChanges != null) {
+                pendingChanges.put(id, new String[]{title, author});
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.lock();
+        try {
+            titleIndex.remove(id);
+            authorIndex.remove(id);
+            if (pendingChanges != null) {
+                pendingChanges.put(id, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Set<Long> searchTitle(String title) {
+        return titleIndex.search(title);
+    }
+
+    public Set<Long> searchAuthor(String author) {
+        return authorIndex.search(author);
+    }
+}
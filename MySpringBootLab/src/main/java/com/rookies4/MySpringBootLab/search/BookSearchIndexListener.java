@@ -0,0 +1,50 @@
+package com.rookies4.MySpringBootLab.search;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.transaction.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Book 엔티티 생명주기 이벤트를 받아 BookSearchIndex와 BookSuggestIndex(자동완성)를 갱신하는 JPA 엔티티 리스너입니다.
+ * 롤백된 변경이 색인에 남지 않도록 트랜잭션 커밋 이후에 반영합니다.
+ * 리스너는 EntityManagerFactory 생성 중에 만들어지므로, 색인(-> BookRepository -> EntityManagerFactory)은
+ * 순환 참조를 피하기 위해 @Lazy 프록시로 주입받습니다.
+ */
+@Component
+public class BookSearchIndexListener {
+
+    @Autowired
+    @Lazy
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    @Lazy
+    private BookSuggestIndex bookSuggestIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        // 커밋 시점에는 엔티티가 바뀌었을 수 있으므로 현재 값을 캡처해 둡니다.
+        Long id = book.getId();
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        TransactionCallbacks.afterCommit(() -> {
+            bookSearchIndex.put(id, title, author);
+            bookSuggestIndex.put(id, title, author);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        Long id = book.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            bookSearchIndex.remove(id);
+            bookSuggestIndex.remove(id);
+        });
+    }
+}
@@ -0,0 +1,306 @@
+package com.rookies4.MySpringBootLab.search;
+
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 제목/저자 자동완성 색인입니다. 조회는 불변 CompactTrie(스냅샷)에서 하고,
+ * 스냅샷 생성 이후 커밋된 변경(BookSearchIndexListener가 전달)은 변경분 목록에 모아 두었다가 조회 시 함께 확인합니다.
+ * - 스냅샷 항목은 현재 도서 값과 다르면(수정/삭제) 결과에서 제외하고, 변경된 도서는 현재 값으로 직접 비교해 추가
+ * - 변경분이 REBUILD_THRESHOLD건 쌓이면 백그라운드 스레드에서 메모리의 현재 값으로 새 스냅샷을 만들어 교체
+ * 최초 색인은 기동 후 백그라운드에서 DB를 읽어 만들며, 완료 전에는 isReady()가 false입니다.
+ */
+@Component
+public class BookSuggestIndex implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSuggestIndex.class);
+
+    // 스냅샷 생성 이후 변경된 도서가 이만큼 쌓이면 스냅샷을 다시 만듦 (변경분은 조회마다 순차 비교하므로 작게 유지)
+    private static final int REBUILD_THRESHOLD = 500;
+
+    // 도서 ID -> 현재 제목/저자 (커밋된 변경이 바로 반영되는 기준 값)
+    private final Map<Long, Labels> books = new ConcurrentHashMap<>();
+    // 저자 -> 해당 저자의 도서 수 (0건이 되면 제거되어 저자 제안에서 빠짐)
+    private final Map<String, Integer> authorCounts = new ConcurrentHashMap<>();
+
+    // 쓰기와 스냅샷 교체 직렬화
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-suggest-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 스냅샷과 변경분은 조회 중 교체되어도 일관되게 보이도록 한 번에 교체
+    private volatile State state = new State(CompactTrie.EMPTY, null, new Pending());
+    private volatile boolean ready;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        builder.execute(this::loadAll);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void put(Long id, String title, String author) {
+        writeLock.lock();
+        try {
+            index(id, title, author);
+            state.pending.add(id, author);
+        } finally {
+            writeLock.unlock();
+        }
+        requestRebuild();
+    }
+
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            unindex(id);
+            state.pending.add(id, null);
+        } finally {
+            writeLock.unlock();
+        }
+        requestRebuild();
+    }
+
+    /**
+     * 검색어로 시작하는(단어 단위 포함) 제목/저자를 순위 순으로 최대 limit건 반환합니다.
+     * 제목 항목은 도서 ID, 저자 항목은 ID 없이 저자명 하나로 중복 제거됩니다.
+     */
+    public List<CompactTrie.Entry> suggest(String query, int limit) {
+        String prefix = HangulKeys.normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        State current = state;
+        List<CompactTrie.Match> matches = new ArrayList<>();
+        for (CompactTrie.Match match : current.snapshot.search(prefix)) {
+            if (isCurrent(match.getEntry())) {
+                matches.add(match);
+            }
+        }
+        addPending(current.rebuilding, prefix, matches);
+        addPending(current.pending, prefix, matches);
+        matches.sort(CompactTrie.RANK);
+
+        Set<String> seen = new HashSet<>();
+        List<CompactTrie.Entry> result = new ArrayList<>();
+        for (CompactTrie.Match match : matches) {
+            CompactTrie.Entry entry = match.getEntry();
+            if (seen.add(entry.isAuthor() ? "author:" + entry.getLabel() : "title:" + entry.getId())) {
+                result.add(entry);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        builder.shutdownNow();
+    }
+
+    // DB 조회 중에 커밋된 변경은 변경분에 기록되므로, 조회 결과를 넣은 뒤 해당 도서만 현재 값으로 되돌림
+    private void loadAll() {
+        try {
+            long start = System.currentTimeMillis();
+            writeLock.lock();
+            try {
+                state = new State(CompactTrie.EMPTY, null, new Pending());
+            } finally {
+                writeLock.unlock();
+            }
+            List<BookRepository.BookLabelView> labels = bookRepository.findAllLabels();
+            writeLock.lock();
+            try {
+                Map<Long, Labels> changed = new HashMap<>();
+                for (Long id : state.pending.ids) {
+                    changed.put(id, books.get(id));
+                }
+                books.clear();
+                authorCounts.clear();
+                for (BookRepository.BookLabelView label : labels) {
+                    if (!changed.containsKey(label.getId())) {
+                        index(label.getId(), label.getTitle(), label.getAuthor());
+                    }
+                }
+                changed.forEach((id, current) -> {
+                    if (current != null) {
+                        index(id, current.title, current.author);
+                    }
+                });
+            } finally {
+                writeLock.unlock();
+            }
+            rebuild();
+            ready = true;
+            logger.info("도서 자동완성 색인 생성 완료: {}건, {}ms", labels.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            logger.error("도서 자동완성 색인 생성 실패", e);
+        }
+    }
+
+    private void requestRebuild() {
+        if (ready && state.pending.size() >= REBUILD_THRESHOLD && rebuildScheduled.compareAndSet(false, true)) {
+            try {
+                builder.execute(this::rebuild);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                rebuildScheduled.set(false);
+            }
+        }
+    }
+
+    // 시작 시점까지의 변경분은 새 스냅샷에 포함되고, 생성 중의 변경은 새 변경분에 쌓여 교체 후에도 유지됨
+    private void rebuild() {
+        rebuildScheduled.set(false);
+        try {
+            writeLock.lock();
+            try {
+                state = new State(state.snapshot, state.pending, new Pending());
+            } finally {
+                writeLock.unlock();
+            }
+            List<CompactTrie.Entry> entries = new ArrayList<>(books.size() + authorCounts.size());
+            books.forEach((id, labels) -> {
+                if (labels.title != null) {
+                    entries.add(new CompactTrie.Entry(id, labels.title, false));
+                }
+            });
+            authorCounts.keySet().forEach(author -> entries.add(new CompactTrie.Entry(null, author, true)));
+            CompactTrie snapshot = CompactTrie.build(entries);
+            writeLock.lock();
+            try {
+                state = new State(snapshot, null, state.pending);
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            logger.error("도서 자동완성 색인 재생성 실패", e);
+        }
+    }
+
+    private void index(Long id, String title, String author) {
+        Labels previous = books.put(id, new Labels(title, author));
+        if (previous != null) {
+            decrement(previous.author);
+        }
+        if (author != null) {
+            authorCounts.merge(author, 1, Integer::sum);
+        }
+    }
+
+    private void unindex(Long id) {
+        Labels previous = books.remove(id);
+        if (previous != null) {
+            decrement(previous.author);
+        }
+    }
+
+    private void decrement(String author) {
+        if (author != null) {
+            authorCounts.computeIfPresent(author, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    // 스냅샷 이후 수정/삭제된 항목 제외
+    private boolean isCurrent(CompactTrie.Entry entry) {
+        if (entry.isAuthor()) {
+            return authorCounts.containsKey(entry.getLabel());
+        }
+        Labels labels = books.get(entry.getId());
+        return labels != null && entry.getLabel().equals(labels.title);
+    }
+
+    private void addPending(Pending pending, String prefix, List<CompactTrie.Match> matches) {
+        if (pending == null) {
+            return;
+        }
+        for (Long id : pending.ids) {
+            Labels labels = books.get(id);
+            if (labels != null && labels.title != null) {
+                addIfMatches(new CompactTrie.Entry(id, labels.title, false), prefix, matches);
+            }
+        }
+        for (String author : pending.authors) {
+            if (authorCounts.containsKey(author)) {
+                addIfMatches(new CompactTrie.Entry(null, author, true), prefix, matches);
+            }
+        }
+    }
+
+    private static void addIfMatches(CompactTrie.Entry entry, String prefix, List<CompactTrie.Match> matches) {
+        CompactTrie.Match match = CompactTrie.match(entry, prefix);
+        if (match != null) {
+            matches.add(match);
+        }
+    }
+
+    private static final class Labels {
+        private final String title;
+        private final String author;
+
+        private Labels(String title, String author) {
+            this.title = title;
+            this.author = author;
+        }
+    }
+
+    // 스냅샷 생성 이후 변경된 도서 ID와 새로 추가된 저자
+    private static final class Pending {
+        private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        private final Set<String> authors = ConcurrentHashMap.newKeySet();
+
+        private void add(Long id, String author) {
+            ids.add(id);
+            if (author != null) {
+                authors.add(author);
+            }
+        }
+
+        private int size() {
+            return ids.size();
+        }
+    }
+
+    // rebuilding: 생성 중인 스냅샷에 반영될 변경분 (교체 전까지 조회에 포함)
+    private static final class State {
+        private final CompactTrie snapshot;
+        private final Pending rebuilding;
+        private final Pending pending;
+
+        private State(CompactTrie snapshot, Pending rebuilding, Pending pending) {
+            this.snapshot = snapshot;
+            this.rebuilding = rebuilding;
+            this.pending = pending;
+        }
+    }
+}
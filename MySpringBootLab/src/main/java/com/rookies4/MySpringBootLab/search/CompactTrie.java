@@ -0,0 +1,267 @@
+package com.rookies4.MySpringBootLab.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 자동완성용 불변 압축 트라이(radix trie)입니다.
+ * 제목/저자 문자열을 HangulKeys로 정규화한 키(전체 문자열 + 각 단어 시작 위치부터의 접미사)를 색인하며,
+ * 공통 접두사가 하나의 간선으로 압축되고 각 노드는 자기 아래에서 순위가 가장 높은 MAX_TOP개의 항목을 미리 계산해 둡니다.
+ * 따라서 조회 비용은 검색어 길이에만 비례하고 색인 크기와 무관합니다.
+ * 순위: 문자열 맨 앞부터 일치 > 단어 중간부터 일치, 그다음 짧은 문자열, 문자열 순, ID 순
+ * 한 번 만들면 바뀌지 않으므로 변경분은 BookSuggestIndex가 따로 모았다가 백그라운드에서 새 트라이로 교체합니다.
+ */
+public final class CompactTrie {
+
+    // 노드마다 보관하는 상위 항목 수 (요청 최대 건수 + 수정/삭제되어 걸러질 항목 여유분)
+    public static final int MAX_TOP = 16;
+
+    // 단어 시작 접미사 키는 앞쪽 단어 몇 개까지만 만들어 색인 크기를 제한
+    private static final int MAX_WORD_KEYS = 8;
+    // 키 길이 제한 (자모 기준). 더 긴 검색어는 이 길이까지만 비교
+    private static final int MAX_KEY_LENGTH = 100;
+
+    public static final CompactTrie EMPTY = build(List.of());
+
+    // 순위 비교: 맨 앞 일치 우선, 짧은 문자열, 문자열, ID(저자 항목은 null이 앞)
+    public static final Comparator<Match> RANK = Comparator
+            .comparing((Match match) -> !match.atStart)
+            .thenComparingInt(match -> match.entry.label.length())
+            .thenComparing(match -> match.entry.label)
+            .thenComparing(match -> match.entry.id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Entry[] entries;
+    private final Node root;
+
+    private CompactTrie(Entry[] entries, Node root) {
+        this.entries = entries;
+        this.root = root;
+    }
+
+    public static CompactTrie build(List<Entry> entries) {
+        Entry[] entryArray = entries.toArray(new Entry[0]);
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < entryArray.length; i++) {
+            List<String> texts = keys(entryArray[i].label);
+            for (int position = 0; position < texts.size(); position++) {
+                keys.add(new Key(texts.get(position), i, position == 0));
+            }
+        }
+        keys.sort(Comparator.comparing((Key key) -> key.text));
+        CompactTrie trie = new CompactTrie(entryArray, null);
+        Node root = keys.isEmpty() ? new Node(new char[0], new char[0], new Node[0], new int[0])
+                : trie.buildNode(keys, 0, keys.size(), 0);
+        return new CompactTrie(entryArray, root);
+    }
+
+    /**
+     * 검색어(HangulKeys.normalize로 변환한 키)로 시작하는 항목을 순위 순으로 최대 MAX_TOP개 반환합니다.
+     */
+    public List<Match> search(String prefix) {
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        String key = prefix.length() > MAX_KEY_LENGTH ? prefix.substring(0, MAX_KEY_LENGTH) : prefix;
+        Node node = root;
+        int position = 0;
+        while (true) {
+            int length = Math.min(node.label.length, key.length() - position);
+            for (int i = 0; i < length; i++) {
+                if (node.label[i] != key.charAt(position + i)) {
+                    return List.of();
+                }
+            }
+            position += length;
+            if (position == key.length()) {
+                return matches(node.top);
+            }
+            int child = Arrays.binarySearch(node.childChars, key.charAt(position));
+            if (child < 0) {
+                return List.of();
+            }
+            node = node.children[child];
+        }
+    }
+
+    /**
+     * 트라이에 넣지 않은 항목이 검색어와 일치하는지 확인합니다. (아직 색인되지 않은 변경분 조회용)
+     * @return 일치하면 Match, 아니면 null
+     */
+    public static Match match(Entry entry, String prefix) {
+        if (prefix.isEmpty()) {
+            return null;
+        }
+        String key = prefix.length() > MAX_KEY_LENGTH ? prefix.substring(0, MAX_KEY_LENGTH) : prefix;
+        List<String> texts = keys(entry.label);
+        for (int position = 0; position < texts.size(); position++) {
+            if (texts.get(position).startsWith(key)) {
+                return new Match(entry, position == 0);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // 전체 문자열 키 + 공백 다음(단어 시작)부터의 접미사 키
+    private static List<String> keys(String label) {
+        String text = HangulKeys.normalize(label);
+        List<String> keys = new ArrayList<>();
+        if (text.isEmpty()) {
+            return keys;
+        }
+        keys.add(truncate(text));
+        for (int i = text.indexOf(' '); i >= 0 && keys.size() < MAX_WORD_KEYS; i = text.indexOf(' ', i + 1)) {
+            keys.add(truncate(text.substring(i + 1)));
+        }
+        return keys;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    // 정렬된 keys[from, to)는 depth까지 공통 접두사를 가짐. 그 뒤의 공통 부분을 간선 이름으로 압축
+    private Node buildNode(List<Key> keys, int from, int to, int depth) {
+        String first = keys.get(from).text;
+        String last = keys.get(to - 1).text;
+        int end = depth;
+        while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+
+        List<Integer> candidates = new ArrayList<>();
+        int i = from;
+        // 정렬 순서상 이 노드에서 끝나는 키가 먼저 옴
+        while (i < to && keys.get(i).text.length() == end) {
+            candidates.add(keys.get(i).encoded());
+            i++;
+        }
+        List<Node> children = new ArrayList<>();
+        while (i < to) {
+            char c = keys.get(i).text.charAt(end);
+            int j = i;
+            while (j < to && keys.get(j).text.charAt(end) == c) {
+                j++;
+            }
+            Node child = buildNode(keys, i, j, end);
+            children.add(child);
+            for (int encoded : child.top) {
+                candidates.add(encoded);
+            }
+            i = j;
+        }
+
+        char[] childChars = new char[children.size()];
+        for (int k = 0; k < childChars.length; k++) {
+            childChars[k] = children.get(k).label[0];
+        }
+        return new Node(first.substring(depth, end).toCharArray(), childChars,
+                children.toArray(new Node[0]), top(candidates));
+    }
+
+    // 후보를 순위 순으로 정렬하고 같은 항목(여러 단어 키로 일치)은 가장 높은 순위 하나만 남김
+    private int[] top(List<Integer> candidates) {
+        candidates.sort((a, b) -> RANK.compare(decode(a), decode(b)));
+        Set<Integer> seen = new HashSet<>();
+        int[] top = new int[Math.min(candidates.size(), MAX_TOP)];
+        int count = 0;
+        for (int encoded : candidates) {
+            if (count == top.length) {
+                break;
+            }
+            if (seen.add(encoded >>> 1)) {
+                top[count++] = encoded;
+            }
+        }
+        return count == top.length ? top : Arrays.copyOf(top, count);
+    }
+
+    private List<Match> matches(int[] top) {
+        List<Match> matches = new ArrayList<>(top.length);
+        for (int encoded : top) {
+            matches.add(decode(encoded));
+        }
+        return matches;
+    }
+
+    private Match decode(int encoded) {
+        return new Match(entries[encoded >>> 1], (encoded & 1) == 0);
+    }
+
+    // 자동완성 항목: 제목(도서 ID) 또는 저자(id 없음)
+    public static final class Entry {
+        private final Long id;
+        private final String label;
+        private final boolean author;
+
+        public Entry(Long id, String label, boolean author) {
+            this.id = id;
+            this.label = label;
+            this.author = author;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public boolean isAuthor() {
+            return author;
+        }
+    }
+
+    public static final class Match {
+        private final Entry entry;
+        private final boolean atStart;
+
+        private Match(Entry entry, boolean atStart) {
+            this.entry = entry;
+            this.atStart = atStart;
+        }
+
+        public Entry getEntry() {
+            return entry;
+        }
+    }
+
+    private static final class Key {
+        private final String text;
+        private final int entry;
+        private final boolean atStart;
+
+        private Key(String text, int entry, boolean atStart) {
+            this.text = text;
+            this.entry = entry;
+            this.atStart = atStart;
+        }
+
+        // 노드의 상위 항목 배열에는 (항목 번호, 맨 앞 일치 여부)를 int 하나로 저장
+        private int encoded() {
+            return entry << 1 | (atStart ? 0 : 1);
+        }
+    }
+
+    private static final class Node {
+        private final char[] label;
+        private final char[] childChars;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] label, char[] childChars, Node[] children, int[] top) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.top = top;
+        }
+    }
+}
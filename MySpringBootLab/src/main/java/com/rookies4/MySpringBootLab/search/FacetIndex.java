@@ -0,0 +1,273 @@
+package com.rookies4.MySpringBootLab.search;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 패싯 검색용 메모리 색인입니다. 도서마다 문서 번호(비트 위치)를 부여하고 필드별로 문서 집합(BitSet)을 유지합니다.
+ * - 가격, 출판일 : 값 -> 문서 집합의 정렬 색인 (범위 조건은 해당 구간의 집합을 OR)
+ * - 출판사, 언어 : 값 -> 문서 집합의 비트맵 색인 (같은 필드의 여러 값은 OR, 필드 간에는 AND)
+ * 패싯 건수는 해당 필드 자신의 조건만 뺀 나머지 조건의 결과와 각 값의 비트맵을 AND 하여 셉니다.
+ * (출판사를 하나 선택해도 다른 출판사의 건수가 유지되어 다중 선택 UI에 그대로 쓸 수 있음)
+ * 변경은 도서 단위로 기존 값을 지우고 새 값을 넣는 방식으로 반영하며, 삭제된 문서 번호는 재사용합니다.
+ */
+public class FacetIndex {
+
+    // 읽기(검색)는 동시에, 쓰기는 단독으로 실행
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 도서 ID -> 문서 번호, 문서 번호 -> 색인된 값
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    private final NavigableMap<Integer, BitSet> prices = new TreeMap<>();
+    private final NavigableMap<LocalDate, BitSet> publishDates = new TreeMap<>();
+    private final Map<String, BitSet> publishers = new HashMap<>();
+    private final Map<String, BitSet> languages = new HashMap<>();
+
+    public void put(Long id, Integer price, LocalDate publishDate, String publisher, String language) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal == null) {
+                ordinal = freeOrdinals.isEmpty() ? documents.size() : freeOrdinals.pop();
+                ordinals.put(id, ordinal);
+            } else {
+                unindex(ordinal);
+            }
+            Document document = new Document(id, price, publishDate, publisher, language);
+            if (ordinal == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(ordinal, document);
+            }
+            live.set(ordinal);
+            add(prices, price, ordinal);
+            add(publishDates, publishDate, ordinal);
+            add(publishers, publisher, ordinal);
+            add(languages, language, ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            unindex(ordinal);
+            documents.set(ordinal, null);
+            live.clear(ordinal);
+            freeOrdinals.push(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 도서 수, afterId 이후 ID 오름차순 최대 limit건의 도서 ID, 출판사/언어별 건수를 반환합니다.
+     * 범위 조건의 null은 제한 없음, 출판사/언어가 비어 있으면 해당 필드 조건 없음을 뜻합니다.
+     */
+    public Result search(Integer minPrice, Integer maxPrice, LocalDate publishedFrom, LocalDate publishedTo,
+                         Collection<String> publisherValues, Collection<String> languageValues,
+                         long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet ranges = (BitSet) live.clone();
+            ranges.and(range(prices, minPrice, maxPrice));
+            ranges.and(range(publishDates, publishedFrom, publishedTo));
+            BitSet publisherMatches = anyOf(publishers, publisherValues);
+            BitSet languageMatches = anyOf(languages, languageValues);
+
+            // 출판사 패싯은 출판사 조건을 뺀 결과 기준, 언어 패싯은 언어 조건을 뺀 결과 기준
+            BitSet withoutPublisher = and(ranges, languageMatches);
+            BitSet withoutLanguage = and(ranges, publisherMatches);
+            BitSet matches = and(withoutPublisher, publisherMatches);
+
+            return new Result(matches.cardinality(), page(matches, afterId, limit),
+                    counts(publishers, withoutPublisher), counts(languages, withoutLanguage));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(int ordinal) {
+        Document previous = documents.get(ordinal);
+        remove(prices, previous.price, ordinal);
+        remove(publishDates, previous.publishDate, ordinal);
+        remove(publishers, previous.publisher, ordinal);
+        remove(languages, previous.language, ordinal);
+    }
+
+    private static <K> void add(Map<K, BitSet> index, K value, int ordinal) {
+        if (value != null) {
+            index.computeIfAbsent(value, key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private static <K> void remove(Map<K, BitSet> index, K value, int ordinal) {
+        if (value == null) {
+            return;
+        }
+        BitSet bits = index.get(value);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                index.remove(value);
+            }
+        }
+    }
+
+    // 구간 [from, to]에 속하는 값들의 문서 집합. 조건이 없으면 전체 문서 (값이 없는 도서 포함)
+    private <K> BitSet range(NavigableMap<K, BitSet> index, K from, K to) {
+        if (from == null && to == null) {
+            return live;
+        }
+        NavigableMap<K, BitSet> values = index;
+        if (from != null) {
+            values = values.tailMap(from, true);
+        }
+        if (to != null) {
+            values = values.headMap(to, true);
+        }
+        BitSet result = new BitSet();
+        for (BitSet bits : values.values()) {
+            result.or(bits);
+        }
+        return result;
+    }
+
+    // 선택한 값 중 하나라도 가진 문서 집합. 선택한 값이 없으면 null (조건 없음)
+    private static BitSet anyOf(Map<String, BitSet> index, Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        BitSet result = new BitSet();
+        for (String value : values) {
+            BitSet bits = index.get(value);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private static BitSet and(BitSet base, BitSet filter) {
+        if (filter == null) {
+            return base;
+        }
+        BitSet result = (BitSet) base.clone();
+        result.and(filter);
+        return result;
+    }
+
+    // 건수 내림차순(같으면 값 오름차순), 0건인 값은 제외
+    private static Map<String, Integer> counts(Map<String, BitSet> index, BitSet base) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (Map.Entry<String, BitSet> entry : index.entrySet()) {
+            BitSet bits = (BitSet) entry.getValue().clone();
+            bits.and(base);
+            int count = bits.cardinality();
+            if (count > 0) {
+                entries.add(Map.entry(entry.getKey(), count));
+            }
+        }
+        entries.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        entries.forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    // 문서 번호 순서는 ID 순서와 다를 수 있으므로 afterId보다 큰 ID를 모아 정렬한 뒤 limit건만 반환
+    private List<Long> page(BitSet matches, long afterId, int limit) {
+        long[] ids = new long[matches.cardinality()];
+        int count = 0;
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            long id = documents.get(ordinal).id;
+            if (id > afterId) {
+                ids[count++] = id;
+            }
+        }
+        Arrays.sort(ids, 0, count);
+        List<Long> page = new ArrayList<>(Math.min(count, limit));
+        for (int i = 0; i < count && i < limit; i++) {
+            page.add(ids[i]);
+        }
+        return page;
+    }
+
+    private static final class Document {
+        private final long id;
+        private final Integer price;
+        private final LocalDate publishDate;
+        private final String publisher;
+        private final String language;
+
+        private Document(long id, Integer price, LocalDate publishDate, String publisher, String language) {
+            this.id = id;
+            this.price = price;
+            this.publishDate = publishDate;
+            this.publisher = publisher;
+            this.language = language;
+        }
+    }
+
+    public static final class Result {
+        private final int total;
+        private final List<Long> ids;
+        private final Map<String, Integer> publisherCounts;
+        private final Map<String, Integer> languageCounts;
+
+        private Result(int total, List<Long> ids, Map<String, Integer> publisherCounts, Map<String, Integer> languageCounts) {
+            this.total = total;
+            this.ids = ids;
+            this.publisherCounts = publisherCounts;
+            this.languageCounts = languageCounts;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        // afterId 이후 ID 오름차순
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public Map<String, Integer> getPublisherCounts() {
+            return publisherCounts;
+        }
+
+        public Map<String, Integer> getLanguageCounts() {
+            return languageCounts;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.rookies4.MySpringBootLab.search;
+
+import java.util.Map;
+
+/**
+ * 자동완성 키 변환: NgramIndex.normalize(NFC, 소문자) 후 연속 공백을 하나로 줄이고,
+ * 한글 음절을 두벌식 자판 입력 순서의 호환 자모로 풀어 씁니다. (예: "값" -> "ㄱㅏㅂㅅ", "과" -> "ㄱㅗㅏ")
+ * 입력 중인 글자는 다음 글자의 초성이 앞 글자의 받침으로 붙어 있으므로("스프" 입력 중 "슾"),
+ * 초성/종성을 같은 자모로 쓰고 겹받침/겹모음도 낱자로 나누어야 입력 도중의 검색어도 접두사로 일치합니다.
+ */
+public final class HangulKeys {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    // 단독으로 입력된 겹자모 (예: 검색어 "ㄳ")
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private HangulKeys() {
+    }
+
+    public static String normalize(String text) {
+        String normalized = NgramIndex.normalize(text);
+        StringBuilder key = new StringBuilder(normalized.length() * 3);
+        boolean space = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space) {
+                key.append(' ');
+                space = false;
+            }
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                int index = c - SYLLABLE_BEGIN;
+                key.append(CHOSEONG.charAt(index / 588))
+                        .append(JUNGSEONG[index % 588 / 28])
+                        .append(JONGSEONG[index % 28]);
+            } else {
+                String jamo = COMPOUND_JAMO.get(c);
+                if (jamo != null) {
+                    key.append(jamo);
+                } else {
+                    key.append(c);
+                }
+            }
+        }
+        return key.toString();
+    }
+}
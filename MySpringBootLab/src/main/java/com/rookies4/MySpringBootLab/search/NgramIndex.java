@@ -0,0 +1,135 @@
+package com.rookies4.MySpringBootLab.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 문자열 필드 하나에 대한 메모리 n-gram 역색인입니다.
+ * 1글자(unigram)와 2글자(bigram)를 색인하여 한글(음절 단위)과 영문 모두 부분 문자열 후보를 찾습니다.
+ * 결과는 "후보"이므로 호출 측에서 실제 값으로 포함 여부를 다시 확인해야 합니다.
+ */
+public class NgramIndex {
+
+    // gram -> 해당 gram을 포함하는 도서 ID 집합
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 도서 ID -> 색인된 정규화 문자열 (수정/삭제 시 기존 gram 제거용)
+    private final Map<Long, String> documents = new ConcurrentHashMap<>();
+
+    // 쓰기 직렬화용 락
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public void put(Long id, String text) {
+        writeLock.lock();
+        try {
+            removeInternal(id);
+            String normalized = normalize(text);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            documents.put(id, normalized);
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            removeInternal(id);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어를 포함할 가능성이 있는 도서 ID를 반환합니다.
+     * 검색어의 모든 gram을 포함하는 ID의 교집합이며, 작은 posting부터 교차합니다.
+     */
+    public Set<Long> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new HashSet<>(documents.keySet());
+        }
+
+        List<Set<Long>> candidates = new ArrayList<>();
+        for (String gram : queryGrams(normalized)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            candidates.add(ids);
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(candidates.get(0));
+        for (int i = 1; i < candidates.size() && !result.isEmpty(); i++) {
+            result.retainAll(candidates.get(i));
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // 대소문자 구분 없이(MariaDB 기본 collation과 동일) 비교하기 위해 NFC 정규화 후 소문자로 변환
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).trim();
+    }
+
+    // 색인 시: 모든 unigram + bigram
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 2 <= text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색 시: 1글자면 unigram, 그 이상이면 bigram만 사용
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
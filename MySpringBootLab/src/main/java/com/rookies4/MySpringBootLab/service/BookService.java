@@ -1,29 +1,125 @@
 package com.rookies4.MySpringBootLab.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rookies4.MySpringBootLab.cache.BookResponseCache;
+import com.rookies4.MySpringBootLab.cache.CachedBookJson;
+import com.rookies4.MySpringBootLab.cache.IsbnBloomFilter;
+import com.rookies4.MySpringBootLab.cache.SingleFlight;
+import com.rookies4.MySpringBootLab.datasource.PrimaryReadScope;
 import com.rookies4.MySpringBootLab.dto.BookDTO;
 import com.rookies4.MySpringBootLab.entity.Book;
 import com.rookies4.MySpringBootLab.entity.BookDetail;
 import com.rookies4.MySpringBootLab.exception.BusinessException;
+import com.rookies4.MySpringBootLab.repository.BookDetailRepository;
+import com.rookies4.MySpringBootLab.repository.BookFieldSelection;
 import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.search.BookFacetIndex;
+import com.rookies4.MySpringBootLab.search.BookSearchIndex;
+import com.rookies4.MySpringBootLab.search.BookSuggestIndex;
+import com.rookies4.MySpringBootLab.search.FacetIndex;
+import com.rookies4.MySpringBootLab.search.NgramIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true) // 기본적으로 읽기 전용 트랜잭션
+@Timed(value = "book.service", histogram = true, percentiles = {0.5, 0.95, 0.99}) // 모든 public 메서드의 지연 시간 (method 태그로 구분)
 public class BookService {
 
+    // 커서 기반 페이지 조회 시 기본/최대 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 자동완성 기본/최대 제안 수
+    private static final int DEFAULT_SUGGEST_SIZE = 10;
+    private static final int MAX_SUGGEST_SIZE = 10;
+
+    // Export 시 출력 스트림을 flush 하는 레코드 간격
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    // 대량 등록 최대 건수, IN 절 쿼리 1회당 최대 파라미터 수, 영속성 컨텍스트 flush/clear 간격
+    private static final int MAX_BULK_SIZE = 5000;
+    private static final int IN_QUERY_CHUNK_SIZE = 1000;
+    private static final int BULK_FLUSH_INTERVAL = 500;
+
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private BookFacetIndex bookFacetIndex;
+
+    @Autowired
+    private BookSuggestIndex bookSuggestIndex;
+
+    @Autowired
+    private BookResponseCache bookResponseCache;
+
+    @Autowired
+    private IsbnBloomFilter isbnBloomFilter;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 캐시 미스 시 DB 조회를 프록시를 거쳐 호출하기 위한 자기 참조 (동시성 제한 aspect 적용)
+    @Autowired
+    @Lazy
+    private BookService self;
+
+    // 단건 조회 동시 요청 합치기 (키: 도서 ID / ISBN)
+    private final SingleFlight<Long, BookDTO.BookResponse> loadsById = new SingleFlight<>();
+    private final SingleFlight<String, BookDTO.BookResponse> loadsByIsbn = new SingleFlight<>();
+
     @Transactional // 쓰기 작업에만 별도로 트랜잭션 설정
     public BookDTO.BookResponse createBook(BookDTO.BookCreateRequest request) {
         // ISBN 중복 검증 로직
-        if (bookRepository.existsByIsbn(request.getIsbn())) {
+        if (isbnExists(request.getIsbn())) {
             throw new BusinessException("이미 등록된 ISBN입니다: " + request.getIsbn(), HttpStatus.CONFLICT);
         }
         Book newBook = request.toEntity();
@@ -31,37 +127,365 @@ public class BookService {
         newBook.addBookDetail(newBookDetail); // 연관관계 설정
 
         Book savedBook = bookRepository.save(newBook);
+        flushIsbnChange(request.getIsbn());
+        isbnBloomFilter.put(request.getIsbn());
+        bookResponseCache.evictAfterCommit(savedBook.getId());
         return BookDTO.BookResponse.fromEntity(savedBook);
     }
 
-    public List<BookDTO.BookResponse> getAllBooks() {
-        return bookRepository.findAll().stream()
+    /**
+     * 여러 도서를 한 트랜잭션에서 대량 등록합니다.
+     * ISBN 중복은 IN 쿼리 한 번(청크 단위)으로 검증하고, INSERT는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 실행됩니다.
+     * 유효하지 않거나 중복된 항목은 건너뛰고 항목별 결과로 보고합니다.
+     */
+    @Transactional
+    public BookDTO.BookBulkCreateResponse createBooks(List<BookDTO.BookCreateRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new BusinessException("대량 등록은 1건 이상 " + MAX_BULK_SIZE + "건 이하만 가능합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        // 1. 항목별 유효성 검증
+        List<String> errors = new ArrayList<>(requests.size());
+        Set<String> isbns = new HashSet<>();
+        for (BookDTO.BookCreateRequest request : requests) {
+            String error = validate(request);
+            errors.add(error);
+            if (error == null) {
+                isbns.add(request.getIsbn());
+            }
+        }
+
+        // 2. 이미 등록된 ISBN을 집합 단위로 조회 (Bloom 필터가 확실히 없다고 한 ISBN은 제외)
+        isbns.removeIf(isbn -> !isbnBloomFilter.mightContain(isbn));
+        Set<String> existingIsbns = findExistingIsbns(isbns);
+
+        // 3. 신규 도서 저장 (flush 시점에 배치 INSERT)
+        List<BookDTO.BookBulkItemResult> results = new ArrayList<>(requests.size());
+        Set<String> seenIsbns = new HashSet<>();
+        int created = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            BookDTO.BookCreateRequest request = requests.get(i);
+            BookDTO.BookBulkItemResult.BookBulkItemResultBuilder result = BookDTO.BookBulkItemResult.builder()
+                    .index(i)
+                    .isbn(request == null ? null : request.getIsbn());
+
+            if (errors.get(i) != null) {
+                results.add(result.status(BookDTO.BulkItemStatus.INVALID).message(errors.get(i)).build());
+                continue;
+            }
+            if (existingIsbns.contains(request.getIsbn()) || !seenIsbns.add(request.getIsbn())) {
+                results.add(result.status(BookDTO.BulkItemStatus.DUPLICATE)
+                        .message("이미 등록된 ISBN입니다: " + request.getIsbn()).build());
+                continue;
+            }
+
+            Book newBook = request.toEntity();
+            newBook.addBookDetail(request.getDetailRequest().toEntity());
+            bookRepository.save(newBook);
+            isbnBloomFilter.put(request.getIsbn());
+            results.add(result.status(BookDTO.BulkItemStatus.CREATED).id(newBook.getId()).build());
+
+            if (++created % BULK_FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        return BookDTO.BookBulkCreateResponse.builder()
+                .requested(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * ID 기준 Keyset 페이지네이션으로 도서 목록을 조회합니다.
+     * OFFSET 없이 "id > 커서" 조건으로 PK 인덱스를 타므로 테이블 크기와 무관하게 일정한 비용으로 조회됩니다.
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대 MAX_PAGE_SIZE)
+     */
+    public BookDTO.BookPageResponse getBooks(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        long lastId = decodeCursor(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(pageSize + 1));
+        boolean hasNext = books.size() > pageSize;
+        if (hasNext) {
+            books = books.subList(0, pageSize);
+        }
+
+        List<BookDTO.BookResponse> content = books.stream()
                 .map(BookDTO.BookResponse::fromEntity)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor(books.get(books.size() - 1).getId()) : null;
+
+        return BookDTO.BookPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
+    // ?fields= 목록 조회: 요청 필드만 SELECT하며, 상세 필드가 없으면 BookDetail을 조인하지 않습니다.
+    public BookDTO.BookFieldsPageResponse getBookFields(String cursor, Integer size, String fields) {
+        BookFieldSelection selection = parseFields(fields);
+        int pageSize = resolvePageSize(size);
+        long lastId = decodeCursor(cursor);
+
+        List<Tuple> rows = bookRepository.findFieldsByIdGreaterThan(selection, lastId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<Map<String, Object>> content = rows.stream()
+                .map(selection::toMap)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor((Long) selection.value(rows.get(rows.size() - 1), "id")) : null;
+
+        return BookDTO.BookFieldsPageResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 전체 카탈로그를 NDJSON(한 줄에 BookResponse 하나, 설명 본문 포함)으로 출력 스트림에 바로 씁니다.
+     * DB 커서에서 읽은 엔티티는 변환 직후 영속성 컨텍스트에서 분리하므로 건수와 무관하게 메모리 사용량이 일정합니다.
+     * @param outputStream 응답 출력 스트림 (이 메서드에서 닫지 않음)
+     * @return 출력한 도서 수
+     */
+    public long exportBooks(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BookDTO.BookResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<Book> books = bookRepository.streamAllWithBookDetail()) {
+            Iterator<Book> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                Book book = iterator.next();
+                writer.writeValue(generator, BookDTO.BookResponse.fromEntityWithDescription(book));
+                generator.writeRaw('\n');
+                entityManager.detach(book); // cascade로 BookDetail, 설명 본문도 함께 분리
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 단건 조회는 같은 키의 동시 요청을 single-flight로 합쳐 DB 조회를 한 번만 실행합니다. (인기 도서 동시 조회, 캐시 만료 직후 등)
+     * 기다리는 요청이 트랜잭션(커넥션)을 잡고 있지 않도록 트랜잭션 없이 실행하며, 조회 쿼리는 리포지토리의 읽기 전용 트랜잭션에서 실행됩니다.
+     * 결과나 예외(404 등)는 함께 기다린 요청 모두에게 그대로 전달됩니다.
+     * 조회 결과는 응답 캐시와 2차 캐시에 저장되므로, 복제본 라우팅 중에도 primary에서 읽습니다. (PrimaryReadScope)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
     public BookDTO.BookResponse getBookById(Long id) {
-        Book book = bookRepository.findByIdWithBookDetail(id)
-                .orElseThrow(() -> new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
-        return BookDTO.BookResponse.fromEntity(book);
+        return loadsById.execute(id, () -> PrimaryReadScope.call(() -> BookDTO.BookResponse.fromEntity(findBookWithDetail(id))));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
     public BookDTO.BookResponse getBookByIsbn(String isbn) {
-        Book book = bookRepository.findByIsbnWithBookDetail(isbn)
+        return loadsByIsbn.execute(isbn, () -> PrimaryReadScope.call(() -> BookDTO.BookResponse.fromEntity(findBookWithDetail(isbn))));
+    }
+
+    // 단건 조회 응답을 JSON 바이트로 캐시하여 반환 (BookController가 본문으로 그대로 사용)
+    // 동시 캐시 미스는 BookResponseCache가 합치며, DB 조회는 프록시로 호출하므로 읽기 동시성 한도를 적용받습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public CachedBookJson getBookJsonById(Long id) {
+        return bookResponseCache.getById(id, () -> self.loadBookJsonById(id));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public CachedBookJson getBookJsonByIsbn(String isbn) {
+        return bookResponseCache.getByIsbn(isbn, () -> self.loadBookJsonByIsbn(isbn));
+    }
+
+    // 캐시 미스 시 응답 캐시의 loader (getBookById와 달리 다른 조회와 결과를 공유하지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public CachedBookJson loadBookJsonById(Long id) {
+        return PrimaryReadScope.call(() -> toCachedJson(BookDTO.BookResponse.fromEntity(findBookWithDetail(id))));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public CachedBookJson loadBookJsonByIsbn(String isbn) {
+        return PrimaryReadScope.call(() -> toCachedJson(BookDTO.BookResponse.fromEntity(findBookWithDetail(isbn))));
+    }
+
+    /**
+     * 조건부 조회(If-None-Match)용 현재 ETag. 캐시에 있으면 캐시 항목의 ETag를 쓰고,
+     * 없으면 (id, version)만 조회하여 본문 조회/직렬화 없이 비교할 수 있게 합니다.
+     * 일치하지 않으면 컨트롤러가 이어서 getBookJsonById로 본문을 로드합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public String getBookETagById(Long id) {
+        CachedBookJson cached = bookResponseCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getETag();
+        }
+        return self.loadBookETagById(id);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public String getBookETagByIsbn(String isbn) {
+        CachedBookJson cached = bookResponseCache.getIfPresent(isbn);
+        if (cached != null) {
+            return cached.getETag();
+        }
+        return self.loadBookETagByIsbn(isbn);
+    }
+
+    // 캐시에 없는 도서의 ETag를 DB의 (id, version)으로 계산 (읽기 동시성 한도 적용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public String loadBookETagById(Long id) {
+        BookRepository.BookVersionView view = PrimaryReadScope.call(() -> bookRepository.findVersionById(id))
+                .orElseThrow(() -> new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        return CachedBookJson.eTag(view.getId(), view.getVersion());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public String loadBookETagByIsbn(String isbn) {
+        BookRepository.BookVersionView view = PrimaryReadScope.call(() -> bookRepository.findVersionByIsbn(isbn))
+                .orElseThrow(() -> new BusinessException("ISBN이 " + isbn + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        return CachedBookJson.eTag(view.getId(), view.getVersion());
+    }
+
+    public Map<String, Object> getBookFieldsById(Long id, String fields) {
+        BookFieldSelection selection = parseFields(fields);
+        return bookRepository.findFieldsById(selection, id)
+                .map(selection::toMap)
+                .orElseThrow(() -> new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+    }
+
+    public Map<String, Object> getBookFieldsByIsbn(String isbn, String fields) {
+        BookFieldSelection selection = parseFields(fields);
+        return bookRepository.findFieldsByIsbn(selection, isbn)
+                .map(selection::toMap)
                 .orElseThrow(() -> new BusinessException("ISBN이 " + isbn + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
-        return BookDTO.BookResponse.fromEntity(book);
+    }
+
+    // 설명 본문은 book_description 테이블에서 이 요청에만 조회 (설명이 없는 도서는 description이 null)
+    public BookDTO.BookDescriptionResponse getBookDescription(Long id) {
+        if (!bookRepository.existsById(id)) {
+            throw new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+        }
+        return BookDTO.BookDescriptionResponse.builder()
+                .bookId(id)
+                .description(bookDetailRepository.findDescriptionByBookId(id).orElse(null))
+                .build();
     }
 
     public List<BookDTO.BookResponse> searchBooksByAuthor(String author) {
-        return bookRepository.findByAuthorContaining(author).stream()
-                .map(BookDTO.BookResponse::fromEntity)
-                .collect(Collectors.toList());
+        if (!bookSearchIndex.isReady()) {
+            return bookRepository.findByAuthorContaining(author).stream()
+                    .map(BookDTO.BookResponse::fromEntity)
+                    .collect(Collectors.toList());
+        }
+        return findIndexedBooks(bookSearchIndex.searchAuthor(author), author, Book::getAuthor);
     }
 
     public List<BookDTO.BookResponse> searchBooksByTitle(String title) {
-        return bookRepository.findByTitleContaining(title).stream()
+        if (!bookSearchIndex.isReady()) {
+            return bookRepository.findByTitleContaining(title).stream()
+                    .map(BookDTO.BookResponse::fromEntity)
+                    .collect(Collectors.toList());
+        }
+        return findIndexedBooks(bookSearchIndex.searchTitle(title), title, Book::getTitle);
+    }
+
+    public List<Map<String, Object>> searchBookFieldsByAuthor(String author, String fields) {
+        BookFieldSelection selection = parseFields(fields);
+        if (!bookSearchIndex.isReady()) {
+            return bookRepository.findFieldsByAuthorContaining(selection, author).stream()
+                    .map(selection::toMap)
+                    .collect(Collectors.toList());
+        }
+        return findIndexedBookFields(bookSearchIndex.searchAuthor(author), author, selection, "author");
+    }
+
+    public List<Map<String, Object>> searchBookFieldsByTitle(String title, String fields) {
+        BookFieldSelection selection = parseFields(fields);
+        if (!bookSearchIndex.isReady()) {
+            return bookRepository.findFieldsByTitleContaining(selection, title).stream()
+                    .map(selection::toMap)
+                    .collect(Collectors.toList());
+        }
+        return findIndexedBookFields(bookSearchIndex.searchTitle(title), title, selection, "title");
+    }
+
+    /**
+     * 가격/출판일 범위와 출판사/언어 조건을 조합한 패싯 검색입니다.
+     * 조건 평가와 패싯 건수 집계는 메모리 색인(BookFacetIndex)의 비트맵 연산으로 처리하므로 요청마다 GROUP BY를 실행하지 않고,
+     * DB에서는 현재 페이지 도서만 ID로 조회합니다. 결과는 ID 오름차순이며 cursor/size로 페이지를 넘깁니다.
+     */
+    public BookDTO.BookFacetSearchResponse searchBooksByFacets(BookDTO.BookFacetSearchRequest request) {
+        if (!bookFacetIndex.isReady()) {
+            throw new BusinessException("검색 색인을 준비하고 있습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null && request.getMinPrice() > request.getMaxPrice()) {
+            throw new BusinessException("최소 가격은 최대 가격보다 클 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (request.getPublishedFrom() != null && request.getPublishedTo() != null
+                && request.getPublishedFrom().isAfter(request.getPublishedTo())) {
+            throw new BusinessException("출판일 시작일은 종료일보다 늦을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        int pageSize = resolvePageSize(request.getSize());
+        long lastId = decodeCursor(request.getCursor());
+
+        FacetIndex.Result result = bookFacetIndex.search(request.getMinPrice(), request.getMaxPrice(),
+                request.getPublishedFrom(), request.getPublishedTo(), request.getPublisher(), request.getLanguage(),
+                lastId, pageSize + 1);
+        List<Long> ids = result.getIds();
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        List<BookDTO.BookResponse> content = ids.isEmpty() ? List.of() : bookRepository.findByIdInOrderByIdAsc(ids).stream()
                 .map(BookDTO.BookResponse::fromEntity)
                 .collect(Collectors.toList());
+        String nextCursor = hasNext ? encodeCursor(ids.get(ids.size() - 1)) : null;
+
+        return BookDTO.BookFacetSearchResponse.builder()
+                .total(result.getTotal())
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .publisherFacets(result.getPublisherCounts())
+                .languageFacets(result.getLanguageCounts())
+                .build();
+    }
+
+    /**
+     * 검색창 자동완성: 제목/저자가 검색어로 시작하거나 검색어로 시작하는 단어를 포함하는 항목을 최대 size건 반환합니다.
+     * 한글은 자모 단위로 비교하므로 입력 중인 글자("슾")로도 "스프링"이 제안됩니다.
+     * 메모리 색인(BookSuggestIndex)만 사용하므로 트랜잭션/커넥션 없이 처리합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED, readOnly = true)
+    public List<BookDTO.BookSuggestionResponse> suggestBooks(String query, Integer size) {
+        if (!bookSuggestIndex.isReady()) {
+            throw new BusinessException("검색 색인을 준비하고 있습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        int limit = size == null ? DEFAULT_SUGGEST_SIZE : size;
+        if (limit < 1 || limit > MAX_SUGGEST_SIZE) {
+            throw new BusinessException("제안 수는 1 이상 " + MAX_SUGGEST_SIZE + " 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        return bookSuggestIndex.suggest(query, limit).stream()
+                .map(entry -> BookDTO.BookSuggestionResponse.builder()
+                        .id(entry.getId())
+                        .label(entry.getLabel())
+                        .type(entry.isAuthor() ? BookDTO.SuggestionType.AUTHOR : BookDTO.SuggestionType.TITLE)
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -70,30 +494,44 @@ public class BookService {
                 .orElseThrow(() -> new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
         // ISBN 중복 검증
-        if (!existBook.getIsbn().equals(request.getIsbn()) && bookRepository.existsByIsbn(request.getIsbn())) {
+        boolean isbnChanged = !existBook.getIsbn().equals(request.getIsbn());
+        if (isbnChanged && isbnExists(request.getIsbn())) {
             throw new BusinessException("이미 사용 중인 ISBN입니다.", HttpStatus.CONFLICT);
         }
 
-        existBook.setTitle(request.getTitle());
-        existBook.setAuthor(request.getAuthor());
-        existBook.setIsbn(request.getIsbn());
-        existBook.setPrice(request.getPrice());
-        existBook.setPublishDate(request.getPublishDate());
+        // 영속 상태의 엔티티이므로 save() 없이 변경 감지로 반영되며, 실제로 값이 바뀐 필드만 UPDATE 됩니다. (@DynamicUpdate)
+        boolean bookChanged = setField(request.getTitle(), existBook.getTitle(), existBook::setTitle);
+        bookChanged |= setField(request.getAuthor(), existBook.getAuthor(), existBook::setAuthor);
+        bookChanged |= setField(request.getIsbn(), existBook.getIsbn(), existBook::setIsbn);
+        bookChanged |= setField(request.getPrice(), existBook.getPrice(), existBook::setPrice);
+        bookChanged |= setField(request.getPublishDate(), existBook.getPublishDate(), existBook::setPublishDate);
 
         // BookDetail 업데이트 (전체 업데이트)
         BookDetail detail = existBook.getBookDetail();
+        boolean detailChanged = false;
         if (detail != null && request.getDetailRequest() != null) {
             BookDTO.BookDetailRequest detailRequest = request.getDetailRequest();
-            detail.setDescription(detailRequest.getDescription());
-            detail.setLanguage(detailRequest.getLanguage());
-            detail.setPageCount(detailRequest.getPageCount());
-            detail.setPublisher(detailRequest.getPublisher());
-            detail.setCoverImageUrl(detailRequest.getCoverImageUrl());
-            detail.setEdition(detailRequest.getEdition());
+            detailChanged = setField(detailRequest.getDescription(), detail.getDescription(), detail::setDescription);
+            detailChanged |= setField(detailRequest.getLanguage(), detail.getLanguage(), detail::setLanguage);
+            detailChanged |= setField(detailRequest.getPageCount(), detail.getPageCount(), detail::setPageCount);
+            detailChanged |= setField(detailRequest.getPublisher(), detail.getPublisher(), detail::setPublisher);
+            detailChanged |= setField(detailRequest.getCoverImageUrl(), detail.getCoverImageUrl(), detail::setCoverImageUrl);
+            detailChanged |= setField(detailRequest.getEdition(), detail.getEdition(), detail::setEdition);
+        }
+        if (detailChanged && !bookChanged) {
+            incrementVersion(existBook);
         }
 
-        Book updatedBook = bookRepository.save(existBook);
-        return BookDTO.BookResponse.fromEntity(updatedBook);
+        if (isbnChanged) {
+            flushIsbnChange(request.getIsbn());
+            isbnBloomFilter.put(request.getIsbn());
+        }
+        if (bookChanged || detailChanged) {
+            // @Version은 flush(UPDATE) 시 증가하므로, 응답의 버전이 커밋될 값과 같도록 먼저 flush
+            entityManager.flush();
+            bookResponseCache.evictAfterCommit(id);
+        }
+        return BookDTO.BookResponse.fromEntity(existBook);
     }
 
     @Transactional
@@ -101,53 +539,108 @@ public class BookService {
         Book existBook = bookRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
-        // Book 필드 부분 업데이트
-        if (request.getTitle() != null) {
-            existBook.setTitle(request.getTitle());
-        }
-        if (request.getAuthor() != null) {
-            existBook.setAuthor(request.getAuthor());
+        // ISBN 변경 시 중복 검증
+        boolean isbnChanged = request.getIsbn() != null && !existBook.getIsbn().equals(request.getIsbn());
+        if (isbnChanged && isbnExists(request.getIsbn())) {
+            throw new BusinessException("이미 사용 중인 ISBN입니다.", HttpStatus.CONFLICT);
         }
-        if (request.getIsbn() != null) {
-            // ISBN 변경 시 중복 검증
-            if (!existBook.getIsbn().equals(request.getIsbn()) && bookRepository.existsByIsbn(request.getIsbn())) {
-                throw new BusinessException("이미 사용 중인 ISBN입니다.", HttpStatus.CONFLICT);
-            }
-            existBook.setIsbn(request.getIsbn());
+
+        boolean changed = mergePatch(existBook, request);
+
+        if (isbnChanged) {
+            flushIsbnChange(request.getIsbn());
+            isbnBloomFilter.put(request.getIsbn());
         }
-        if (request.getPrice() != null) {
-            existBook.setPrice(request.getPrice());
+        if (changed) {
+            entityManager.flush();
+            bookResponseCache.evictAfterCommit(id);
         }
-        if (request.getPublishDate() != null) {
-            existBook.setPublishDate(request.getPublishDate());
+        return BookDTO.BookResponse.fromEntity(existBook);
+    }
+
+    /**
+     * 여러 도서의 부분 업데이트를 한 트랜잭션에서 적용합니다.
+     * 대상 도서는 IN 쿼리로 한 번에 조회하고, patchBook과 같은 병합 규칙을 적용한 뒤 커밋 시 JDBC 배치 UPDATE로 반영합니다.
+     * 변경하려는 ISBN이 이미 DB에 있거나 같은 요청의 다른 도서가 먼저 사용한 경우 해당 항목만 CONFLICT로 건너뜁니다.
+     */
+    @Transactional
+    public BookDTO.BookBatchPatchResponse patchBooks(List<BookDTO.BookBatchPatchRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new BusinessException("일괄 수정은 1건 이상 " + MAX_BULK_SIZE + "건 이하만 가능합니다.", HttpStatus.BAD_REQUEST);
         }
 
-        // BookDetail 필드 부분 업데이트
-        BookDetail detail = existBook.getBookDetail();
-        if (detail != null && request.getDetailRequest() != null) {
-            BookDTO.BookDetailPatchRequest detailRequest = request.getDetailRequest();
-            if (detailRequest.getDescription() != null) {
-                detail.setDescription(detailRequest.getDescription());
+        // 1. 대상 도서를 BookDetail과 함께 IN 쿼리로 조회
+        Set<Long> ids = new HashSet<>();
+        Set<String> newIsbns = new HashSet<>();
+        for (BookDTO.BookBatchPatchRequest request : requests) {
+            if (request != null && request.getId() != null) {
+                ids.add(request.getId());
+                if (request.getIsbn() != null && isbnBloomFilter.mightContain(request.getIsbn())) {
+                    newIsbns.add(request.getIsbn());
+                }
             }
-            if (detailRequest.getLanguage() != null) {
-                detail.setLanguage(detailRequest.getLanguage());
+        }
+        Map<Long, Book> books = findBooksById(ids);
+
+        // 2. 변경하려는 ISBN 중 이미 사용 중인 ISBN을 집합 단위로 조회
+        Set<String> usedIsbns = findExistingIsbns(newIsbns);
+        Set<String> claimedIsbns = new HashSet<>();
+
+        // 3. 항목별 병합 (flush 시점에 배치 UPDATE)
+        List<BookDTO.BookBulkItemResult> results = new ArrayList<>(requests.size());
+        int updated = 0;
+        int failed = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            BookDTO.BookBatchPatchRequest request = requests.get(i);
+            Long id = request == null ? null : request.getId();
+            BookDTO.BookBulkItemResult.BookBulkItemResultBuilder result = BookDTO.BookBulkItemResult.builder()
+                    .index(i)
+                    .id(id);
+
+            if (id == null) {
+                failed++;
+                results.add(result.status(BookDTO.BulkItemStatus.INVALID).message("도서 ID는 필수 입력 항목입니다.").build());
+                continue;
             }
-            if (detailRequest.getPageCount() != null) {
-                detail.setPageCount(detailRequest.getPageCount());
+            Book book = books.get(id);
+            if (book == null) {
+                failed++;
+                results.add(result.status(BookDTO.BulkItemStatus.NOT_FOUND)
+                        .message("ID가 " + id + "인 도서를 찾을 수 없습니다.").build());
+                continue;
             }
-            if (detailRequest.getPublisher() != null) {
-                detail.setPublisher(detailRequest.getPublisher());
+            String newIsbn = request.getIsbn();
+            boolean isbnChanged = newIsbn != null && !newIsbn.equals(book.getIsbn());
+            if (isbnChanged && (usedIsbns.contains(newIsbn) || claimedIsbns.contains(newIsbn))) {
+                failed++;
+                results.add(result.status(BookDTO.BulkItemStatus.CONFLICT).isbn(newIsbn)
+                        .message("이미 사용 중인 ISBN입니다: " + newIsbn).build());
+                continue;
             }
-            if (detailRequest.getCoverImageUrl() != null) {
-                detail.setCoverImageUrl(detailRequest.getCoverImageUrl());
+
+            boolean changed = mergePatch(book, request);
+            if (isbnChanged) {
+                claimedIsbns.add(newIsbn);
+                isbnBloomFilter.put(newIsbn);
             }
-            if (detailRequest.getEdition() != null) {
-                detail.setEdition(detailRequest.getEdition());
+            if (changed) {
+                updated++;
+                bookResponseCache.evictAfterCommit(id);
             }
+            results.add(result.status(changed ? BookDTO.BulkItemStatus.UPDATED : BookDTO.BulkItemStatus.UNCHANGED)
+                    .isbn(book.getIsbn()).build());
+        }
+        // 변경된 도서를 한 번에 flush (배치 UPDATE). 응답을 만들기 전에 UPDATE와 버전 증가를 끝내 둡니다.
+        if (updated > 0) {
+            entityManager.flush();
         }
 
-        Book updatedBook = bookRepository.save(existBook);
-        return BookDTO.BookResponse.fromEntity(updatedBook);
+        return BookDTO.BookBatchPatchResponse.builder()
+                .requested(requests.size())
+                .updated(updated)
+                .failed(failed)
+                .results(results)
+                .build();
     }
 
     @Transactional
@@ -160,26 +653,10 @@ public class BookService {
             throw new BusinessException("ID가 " + id + "인 도서의 상세 정보가 존재하지 않습니다.", HttpStatus.NOT_FOUND);
         }
 
-        // BookDetail 필드 부분 업데이트
-        if (request.getDescription() != null) {
-            detail.setDescription(request.getDescription());
+        if (mergeDetailPatch(detail, request)) {
+            incrementVersion(book);
+            bookResponseCache.evictAfterCommit(id);
         }
-        if (request.getLanguage() != null) {
-            detail.setLanguage(request.getLanguage());
-        }
-        if (request.getPageCount() != null) {
-            detail.setPageCount(request.getPageCount());
-        }
-        if (request.getPublisher() != null) {
-            detail.setPublisher(request.getPublisher());
-        }
-        if (request.getCoverImageUrl() != null) {
-            detail.setCoverImageUrl(request.getCoverImageUrl());
-        }
-        if (request.getEdition() != null) {
-            detail.setEdition(request.getEdition());
-        }
-
         return BookDTO.BookDetailResponse.fromEntity(detail);
     }
 
@@ -189,5 +666,201 @@ public class BookService {
             throw new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
         }
         bookRepository.deleteById(id);
+        bookResponseCache.evictAfterCommit(id);
+    }
+
+    private Book findBookWithDetail(Long id) {
+        return bookRepository.findByIdWithBookDetail(id)
+                .orElseThrow(() -> new BusinessException("ID가 " + id + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+    }
+
+    private Book findBookWithDetail(String isbn) {
+        return bookRepository.findByIsbnWithBookDetail(isbn)
+                .orElseThrow(() -> new BusinessException("ISBN이 " + isbn + "인 도서를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+    }
+
+    // HTTP 메시지 컨버터와 같은 ObjectMapper로 직렬화하여 캐시 적중/미스 응답 형식을 동일하게 유지
+    private CachedBookJson toCachedJson(BookDTO.BookResponse book) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(book);
+            return new CachedBookJson(book.getId(), book.getIsbn(), book.getVersion(), body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도서 응답 직렬화에 실패했습니다: " + book.getId(), e);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+        return size;
+    }
+
+    // 커서는 마지막 도서 ID를 URL-safe Base64로 감싼 불투명 토큰입니다.
+    private String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("유효하지 않은 커서입니다: " + cursor, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * PATCH 병합 규칙: null이 아닌 필드만, 기존 값과 다를 때만 반영합니다.
+     * 변경되지 않은 엔티티는 dirty 상태가 되지 않으므로 UPDATE 문이 실행되지 않습니다.
+     * @return Book 또는 BookDetail 중 하나라도 변경되었는지 여부
+     */
+    private boolean mergePatch(Book book, BookDTO.BookPatchRequest request) {
+        boolean bookChanged = patchField(request.getTitle(), book.getTitle(), book::setTitle);
+        bookChanged |= patchField(request.getAuthor(), book.getAuthor(), book::setAuthor);
+        bookChanged |= patchField(request.getIsbn(), book.getIsbn(), book::setIsbn);
+        bookChanged |= patchField(request.getPrice(), book.getPrice(), book::setPrice);
+        bookChanged |= patchField(request.getPublishDate(), book.getPublishDate(), book::setPublishDate);
+
+        BookDetail detail = book.getBookDetail();
+        boolean detailChanged = detail != null && request.getDetailRequest() != null
+                && mergeDetailPatch(detail, request.getDetailRequest());
+        // Book 자체가 변경되면 UPDATE 시 버전이 증가하므로, BookDetail만 바뀐 경우에만 강제로 증가시킵니다.
+        if (detailChanged && !bookChanged) {
+            incrementVersion(book);
+        }
+        return bookChanged || detailChanged;
+    }
+
+    private boolean mergeDetailPatch(BookDetail detail, BookDTO.BookDetailPatchRequest request) {
+        // 설명 본문은 지연 로딩되므로 새 설명이 있을 때만 기존 값을 읽습니다.
+        boolean changed = request.getDescription() != null
+                && patchField(request.getDescription(), detail.getDescription(), detail::setDescription);
+        changed |= patchField(request.getLanguage(), detail.getLanguage(), detail::setLanguage);
+        changed |= patchField(request.getPageCount(), detail.getPageCount(), detail::setPageCount);
+        changed |= patchField(request.getPublisher(), detail.getPublisher(), detail::setPublisher);
+        changed |= patchField(request.getCoverImageUrl(), detail.getCoverImageUrl(), detail::setCoverImageUrl);
+        changed |= patchField(request.getEdition(), detail.getEdition(), detail::setEdition);
+        return changed;
+    }
+
+    // 새 값이 null이면 무시 (PATCH)
+    private static <T> boolean patchField(T newValue, T currentValue, Consumer<T> setter) {
+        return newValue != null && setField(newValue, currentValue, setter);
+    }
+
+    // 기존 값과 다를 때만 setter 호출 (PUT은 null도 그대로 반영)
+    private static <T> boolean setField(T newValue, T currentValue, Consumer<T> setter) {
+        if (Objects.equals(newValue, currentValue)) {
+            return false;
+        }
+        setter.accept(newValue);
+        return true;
+    }
+
+    // BookDetail만 변경되어도 Book의 버전(ETag)이 바뀌도록 버전을 강제로 증가시킵니다.
+    // (OPTIMISTIC_FORCE_INCREMENT는 커밋 직전에 증가하여 응답에 이전 버전이 담기므로, 바로 UPDATE 하는 PESSIMISTIC_FORCE_INCREMENT 사용)
+    private void incrementVersion(Book book) {
+        entityManager.lock(book, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+
+    // Bloom 필터가 "없음"이라고 하면 DB 조회 없이 미등록 ISBN으로 판단합니다.
+    private boolean isbnExists(String isbn) {
+        return isbnBloomFilter.mightContain(isbn) && bookRepository.existsByIsbn(isbn);
+    }
+
+    // 사전 검증을 동시에 통과한 요청은 ISBN 유니크 제약이 최종적으로 막으므로, 즉시 flush하여 CONFLICT로 변환합니다.
+    private void flushIsbnChange(String isbn) {
+        try {
+            bookRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException("이미 사용 중인 ISBN입니다: " + isbn, HttpStatus.CONFLICT);
+        }
+    }
+
+    private String validate(BookDTO.BookCreateRequest request) {
+        if (request == null) {
+            return "요청 항목이 비어 있습니다.";
+        }
+        Set<ConstraintViolation<BookDTO.BookCreateRequest>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private Map<Long, Book> findBooksById(Set<Long> ids) {
+        Map<Long, Book> books = new HashMap<>();
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += IN_QUERY_CHUNK_SIZE) {
+            int to = Math.min(from + IN_QUERY_CHUNK_SIZE, idList.size());
+            for (Book book : bookRepository.findByIdInOrderByIdAsc(idList.subList(from, to))) {
+                books.put(book.getId(), book);
+            }
+        }
+        return books;
+    }
+
+    private Set<String> findExistingIsbns(Set<String> isbns) {
+        Set<String> existing = new HashSet<>();
+        List<String> isbnList = new ArrayList<>(isbns);
+        for (int from = 0; from < isbnList.size(); from += IN_QUERY_CHUNK_SIZE) {
+            int to = Math.min(from + IN_QUERY_CHUNK_SIZE, isbnList.size());
+            existing.addAll(bookRepository.findExistingIsbns(isbnList.subList(from, to)));
+        }
+        return existing;
+    }
+
+    // n-gram 색인이 찾은 후보 ID의 도서만 조회한 뒤, 실제 값에 검색어가 포함되는지 다시 확인합니다.
+    private List<BookDTO.BookResponse> findIndexedBooks(Set<Long> candidateIds, String query, Function<Book, String> field) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        String normalizedQuery = NgramIndex.normalize(query);
+        List<Long> ids = new ArrayList<>(candidateIds);
+        Collections.sort(ids);
+        List<BookDTO.BookResponse> responses = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, ids.size()));
+            for (Book book : bookRepository.findByIdInOrderByIdAsc(chunk)) {
+                if (NgramIndex.normalize(field.apply(book)).contains(normalizedQuery)) {
+                    responses.add(BookDTO.BookResponse.fromEntity(book));
+                }
+            }
+        }
+        return responses;
+    }
+
+    // findIndexedBooks와 같은 재확인을 위해 검색 대상 필드는 요청하지 않았더라도 함께 조회
+    private List<Map<String, Object>> findIndexedBookFields(Set<Long> candidateIds, String query,
+                                                            BookFieldSelection selection, String field) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        BookFieldSelection querySelection = selection.including(field);
+        String normalizedQuery = NgramIndex.normalize(query);
+        List<Long> ids = new ArrayList<>(candidateIds);
+        Collections.sort(ids);
+        List<Map<String, Object>> books = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, ids.size()));
+            for (Tuple row : bookRepository.findFieldsByIdIn(querySelection, chunk)) {
+                if (NgramIndex.normalize((String) querySelection.value(row, field)).contains(normalizedQuery)) {
+                    books.add(querySelection.toMap(row));
+                }
+            }
+        }
+        return books;
+    }
+
+    private BookFieldSelection parseFields(String fields) {
+        try {
+            return BookFieldSelection.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
     }
 }
\ No newline at end of file
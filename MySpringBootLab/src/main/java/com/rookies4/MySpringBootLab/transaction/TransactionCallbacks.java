@@ -0,0 +1,28 @@
+package com.rookies4.MySpringBootLab.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업을 등록합니다.
+ * 메모리 색인/응답 캐시처럼 DB에서 파생된 상태는 롤백된 변경이 남지 않도록 커밋 이후에만 갱신합니다.
+ * 트랜잭션 동기화가 활성화되어 있지 않으면(트랜잭션 밖) 바로 실행합니다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package com.rookies4.MySpringBootLab.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 도서 목록(List&lt;BookResponse&gt; / BookPageResponse)을 열 이름을 한 번만 쓰는 컬럼형 JSON으로 직렬화합니다.
+ * Accept: application/vnd.book.columnar+json 요청에만 사용되며, 행마다 필드명을 반복하지 않아 일반 JSON보다 작습니다.
+ * <pre>
+ * {"columns":["id","title",...,"detail.edition"],"rows":[[1,"제목",...,"2판"],...],"size":20,"hasNext":true,"nextCursor":"..."}
+ * </pre>
+ * detailResponse가 없는 도서는 detail.* 열이 모두 null입니다. (목록/페이지 정보 외의 응답은 처리하지 않음)
+ */
+public class BookColumnarHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/vnd.book.columnar+json");
+
+    private static final String[] COLUMNS = {
+            "id", "title", "author", "isbn", "price", "publishDate", "version",
+            "detail.language", "detail.pageCount", "detail.publisher",
+            "detail.coverImageUrl", "detail.edition"
+    };
+
+    private static final int DETAIL_COLUMN_COUNT = 5;
+
+    private final JsonFactory jsonFactory;
+
+    public BookColumnarHttpMessageConverter(JsonFactory jsonFactory) {
+        super(MEDIA_TYPE);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BookDTO.BookPageResponse.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (BookDTO.BookPageResponse.class.isAssignableFrom(clazz)) {
+            return canWrite(mediaType);
+        }
+        // List<BookResponse>만 처리 (제네릭 정보가 없는 List는 다른 컨버터에 맡김)
+        return List.class.isAssignableFrom(clazz)
+                && type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] == BookDTO.BookResponse.class
+                && canWrite(mediaType);
+    }
+
+    // 컬럼형을 명시적으로 요청한 경우에만 사용 (Accept: */* 나 Content-Type 미지정 응답에는 참여하지 않음)
+    @Override
+    protected boolean canWrite(@Nullable MediaType mediaType) {
+        return mediaType != null && MEDIA_TYPE.equalsTypeAndSubtype(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("컬럼형 JSON 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("컬럼형 JSON 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        write(value, StreamUtils.nonClosing(outputMessage.getBody()));
+    }
+
+    // 벤치마크에서도 같은 경로로 인코딩할 수 있도록 공개
+    @SuppressWarnings("unchecked")
+    public void write(Object value, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            if (value instanceof BookDTO.BookPageResponse page) {
+                writeBooks(generator, page.getContent());
+                generator.writeNumberField("size", page.getSize());
+                generator.writeBooleanField("hasNext", page.isHasNext());
+                generator.writeStringField("nextCursor", page.getNextCursor());
+            } else {
+                writeBooks(generator, (List<BookDTO.BookResponse>) value);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeBooks(JsonGenerator generator, List<BookDTO.BookResponse> books) throws IOException {
+        generator.writeArrayFieldStart("columns");
+        for (String column : COLUMNS) {
+            generator.writeString(column);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("rows");
+        for (BookDTO.BookResponse book : books) {
+            generator.writeStartArray();
+            writeNumber(generator, book.getId());
+            generator.writeString(book.getTitle());
+            generator.writeString(book.getAuthor());
+            generator.writeString(book.getIsbn());
+            writeNumber(generator, book.getPrice());
+            writeDate(generator, book.getPublishDate());
+            writeNumber(generator, book.getVersion());
+            BookDTO.BookDetailResponse detail = book.getDetailResponse();
+            if (detail != null) {
+                generator.writeString(detail.getLanguage());
+                writeNumber(generator, detail.getPageCount());
+                generator.writeString(detail.getPublisher());
+                generator.writeString(detail.getCoverImageUrl());
+                generator.writeString(detail.getEdition());
+            } else {
+                for (int i = 0; i < DETAIL_COLUMN_COUNT; i++) {
+                    generator.writeNull();
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeNumber(JsonGenerator generator, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.longValue());
+        }
+    }
+
+    // 기본 JSON 응답과 같은 ISO-8601(yyyy-MM-dd) 형식
+    private static void writeDate(JsonGenerator generator, LocalDate value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+}
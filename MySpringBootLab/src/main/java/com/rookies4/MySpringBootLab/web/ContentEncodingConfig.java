@@ -0,0 +1,52 @@
+package com.rookies4.MySpringBootLab.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Accept 헤더에 따른 응답 인코딩 설정입니다.
+ * - application/json (기본)
+ * - application/cbor, application/x-jackson-smile : 바이너리 JSON (spring.jackson.* 설정 동일 적용)
+ * - application/vnd.book.columnar+json : 도서 목록 전용 컬럼형 JSON
+ * 전송 압축(gzip)은 server.compression.* 설정으로 처리합니다.
+ */
+@Configuration
+public class ContentEncodingConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 같은 타입의 기본 컨버터를 대체하므로 JSON 컨버터보다 앞서지 않습니다.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // JSON 컨버터가 application/*+json으로 먼저 처리하지 않도록 그 앞에 추가
+    // (컬럼형 컨버터는 해당 미디어 타입을 명시한 요청에만 참여하므로 기본 JSON 선택에는 영향 없음)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int index = 0;
+        while (index < converters.size() && !(converters.get(index) instanceof MappingJackson2HttpMessageConverter)) {
+            index++;
+        }
+        converters.add(index, new BookColumnarHttpMessageConverter(objectMapper.getFactory()));
+    }
+}
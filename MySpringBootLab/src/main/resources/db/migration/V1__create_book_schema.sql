@@ -0,0 +1,40 @@
+-- 도서 스키마 초기 생성 (엔티티 매핑과 일치해야 하며 기동 시 ddl-auto=validate로 검증)
+-- ID 시퀀스의 INCREMENT BY는 엔티티의 allocationSize(50)와 같아야 합니다.
+
+CREATE SEQUENCE book_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE book_detail_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE book_description_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE book (
+    id           BIGINT       NOT NULL,
+    title        VARCHAR(255),
+    author       VARCHAR(255),
+    isbn         VARCHAR(255),
+    price        INTEGER,
+    publish_date DATE,
+    version      BIGINT       NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_book_isbn UNIQUE (isbn)
+);
+
+CREATE TABLE book_description (
+    id      BIGINT NOT NULL,
+    content LONGBLOB,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE book_detail (
+    id              BIGINT       NOT NULL,
+    language        VARCHAR(255),
+    page_count      INTEGER,
+    publisher       VARCHAR(255),
+    cover_image_url VARCHAR(255),
+    edition         VARCHAR(255),
+    book_id         BIGINT,
+    description_id  BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_book_detail_book UNIQUE (book_id),
+    CONSTRAINT uk_book_detail_description UNIQUE (description_id),
+    CONSTRAINT fk_book_detail_book FOREIGN KEY (book_id) REFERENCES book (id),
+    CONSTRAINT fk_book_detail_description FOREIGN KEY (description_id) REFERENCES book_description (id)
+);
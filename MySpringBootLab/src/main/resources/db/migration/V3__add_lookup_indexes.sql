@@ -0,0 +1,10 @@
+-- 리포지토리 조회 조건 컬럼 인덱스
+-- book.isbn(findByIsbn, existsByIsbn, findExistingIsbns)은 uk_book_isbn, book_detail.book_id(상세 조인, findByBookId)는
+-- uk_book_detail_book 유니크 인덱스가 담당합니다.
+-- book.title은 부분 문자열 검색(메모리 n-gram 색인, 색인 준비 전 '%...%' LIKE)에만 쓰이므로 B-tree 인덱스를 두지 않습니다.
+
+-- findByAuthor
+CREATE INDEX idx_book_author ON book (author);
+
+-- BookDetailRepository.findByPublisher
+CREATE INDEX idx_book_detail_publisher ON book_detail (publisher);
@@ -0,0 +1,154 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.limiter.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 과부하 시뮬레이션: 커넥션 4개(Semaphore)로 쿼리당 10ms가 걸리는 DB에 48개 스레드가 동시에 요청합니다.
+ * 제한이 없으면 모든 요청이 풀 대기열에 쌓여 지연이 동시 요청 수에 비례해 늘어나고,
+ * 적응형 제한기를 두면 초과 요청은 즉시 거절되어 수락된 요청의 p99가 쿼리 시간 근처로 유지됩니다.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final long QUERY_MILLIS = 10;
+    private static final int CLIENTS = 48;
+
+    @Test
+    @DisplayName("과부하 시 제한기가 초과 요청을 거절하여 수락된 요청의 p99 지연을 제한")
+    public void testOverloadKeepsP99Bounded() throws InterruptedException {
+        Result unlimited = runOverload(null);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", 20, 2, 200, 1.5);
+        Result limited = runOverload(limiter);
+
+        Assertions.assertTrue(unlimited.p99Millis >= 80, "제한 없는 경우 대기열 지연 발생: " + unlimited.p99Millis);
+        Assertions.assertEquals(0, unlimited.rejected);
+        Assertions.assertTrue(limited.p99Millis <= QUERY_MILLIS * 6, "제한기 적용 시 p99: " + limited.p99Millis);
+        Assertions.assertTrue(limited.p99Millis * 2 < unlimited.p99Millis,
+                "제한기 적용 시 p99 " + limited.p99Millis + "ms, 미적용 시 p99 " + unlimited.p99Millis + "ms");
+        Assertions.assertTrue(limited.accepted > 0 && limited.rejected > 0,
+                "수락 " + limited.accepted + "건, 거절 " + limited.rejected + "건");
+        Assertions.assertTrue(limiter.getRejectedCount() >= limited.rejected);
+        Assertions.assertTrue(limiter.getLimit() >= 2 && limiter.getLimit() < 20, "한도가 DB 처리 능력 쪽으로 줄어듦: " + limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInflight());
+        Assertions.assertEquals(0, limiter.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("빠른 작업과 느린 작업이 섞여도 작업별 기준 지연으로 판단하여 한도를 줄이지 않음")
+    public void testMixedLatencyOperations() {
+        // 단건 조회 1ms, 목록 조회 20ms가 번갈아 완료되는 정상 상태 (각 작업의 지연은 일정)
+        AdaptiveConcurrencyLimiter perOperation = new AdaptiveConcurrencyLimiter("read", 20, 2, 200, 1.5);
+        AdaptiveConcurrencyLimiter shared = new AdaptiveConcurrencyLimiter("read", 20, 2, 200, 1.5);
+        for (int i = 0; i < 200; i++) {
+            boolean fast = i % 2 == 0;
+            long rtt = TimeUnit.MILLISECONDS.toNanos(fast ? 1 : 20);
+            completeAtLimit(perOperation, fast ? "getBookById" : "getBooks", rtt);
+            completeAtLimit(shared, "read", rtt);
+        }
+
+        Assertions.assertTrue(perOperation.getLimit() > 20, "작업별 기준 지연: " + perOperation.getLimit());
+        // 하나의 기준 지연(가장 빠른 작업의 최솟값)을 쓰면 느린 작업의 정상 지연만으로 L = 0.5L + sqrt(L), 약 4까지 줄어듦
+        Assertions.assertTrue(shared.getLimit() <= 5, "공유 기준 지연: " + shared.getLimit());
+        Assertions.assertEquals(0, perOperation.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("과부하 신호(커넥션 획득 실패 등)는 한도를 곱셈 감소")
+    public void testOverloadSignalBacksOff() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 10, 2, 50, 1.5);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertTrue(limiter.tryAcquire());
+            limiter.onComplete(TimeUnit.MILLISECONDS.toNanos(5), true);
+        }
+        Assertions.assertEquals(5, limiter.getLimit()); // 10 * 0.9^5 = 5.9
+        Assertions.assertEquals(5, limiter.getDroppedCount());
+        Assertions.assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    @DisplayName("한도에 도달하면 대기 없이 거절")
+    public void testRejectsAtLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", 2, 1, 10, 1.5);
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertTrue(limiter.tryAcquire());
+        Assertions.assertFalse(limiter.tryAcquire());
+        Assertions.assertEquals(1, limiter.getRejectedCount());
+    }
+
+    // 한도까지 채운 상태에서 한 건을 완료 (실행 중 요청이 한도의 절반 이상이어야 한도를 조정함)
+    private static void completeAtLimit(AdaptiveConcurrencyLimiter limiter, String operation, long rttNanos) {
+        while (limiter.tryAcquire()) {
+            // 빈 슬롯을 모두 채움
+        }
+        limiter.onComplete(operation, rttNanos, false);
+    }
+
+    private Result runOverload(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        Semaphore pool = new Semaphore(POOL_SIZE, true);
+        // 부하가 낮을 때의 지연을 먼저 관측 (평상시 트래픽)
+        runClients(2, 300, pool, limiter, null, new AtomicLong(), new AtomicLong());
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        runClients(CLIENTS, 2000, pool, limiter, latencies, accepted, rejected);
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return new Result(TimeUnit.NANOSECONDS.toMillis(p99), accepted.get(), rejected.get());
+    }
+
+    private void runClients(int clients, long durationMillis, Semaphore pool, AdaptiveConcurrencyLimiter limiter,
+                            List<Long> latencies, AtomicLong accepted, AtomicLong rejected) throws InterruptedException {
+        long end = System.currentTimeMillis() + durationMillis;
+        // 제한기가 한도를 찾는 동안의 초기 구간은 측정에서 제외
+        long measureFrom = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis / 4);
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            new Thread(() -> {
+                try {
+                    while (System.currentTimeMillis() < end) {
+                        if (limiter != null && !limiter.tryAcquire()) {
+                            rejected.incrementAndGet();
+                            Thread.sleep(2); // 503 응답 후 재시도 간격
+                            continue;
+                        }
+                        long start = System.nanoTime();
+                        pool.acquire();
+                        try {
+                            Thread.sleep(QUERY_MILLIS);
+                        } finally {
+                            pool.release();
+                        }
+                        long rtt = System.nanoTime() - start;
+                        if (limiter != null) {
+                            limiter.onComplete(rtt, false);
+                        }
+                        accepted.incrementAndGet();
+                        if (latencies != null && start >= measureFrom) {
+                            latencies.add(rtt);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+    }
+
+    private record Result(long p99Millis, long accepted, long rejected) {
+    }
+}
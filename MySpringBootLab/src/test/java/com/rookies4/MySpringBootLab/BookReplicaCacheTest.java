@@ -0,0 +1,72 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.datasource.ReadReplicaRoutingDataSource;
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.service.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+// 복제본 라우팅 중에는 복제본으로 가는 readOnly 조회가 2차 캐시를 채우지 않고,
+// 단건 조회(응답 캐시를 채우는 조회)만 primary에서 읽어 캐시를 채우는지 검증합니다.
+// (복제본도 같은 H2 DB를 가리키므로 결과 값이 아니라 2차 캐시 put 횟수로 확인)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:replicacache;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "book.datasource.replica.urls=jdbc:h2:mem:replicacache;DB_CLOSE_DELAY=-1",
+        "book.datasource.replica.lag-query="
+})
+public class BookReplicaCacheTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long bookId;
+
+    @BeforeEach
+    public void setUp() {
+        bookRepository.deleteAll();
+        Book book = new Book("스프링 부트 입문", "홍길동", "9788956746425", 30000, LocalDate.of(2025, 5, 7));
+        book.addBookDetail(new BookDetail("설명", "한국어", 300, "한빛미디어", null, "1판"));
+        bookId = bookRepository.save(book).getId();
+        readReplicaRoutingDataSource.checkReplicas();
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("복제본 조회는 2차 캐시에 넣지 않고, 단건 조회는 primary에서 읽어 캐시를 채움")
+    public void testReplicaReadsDoNotPopulateSecondLevelCache() {
+        Assertions.assertEquals(1, bookService.getBooks(null, 10).getContent().size());
+        Assertions.assertEquals(0, statistics.getSecondLevelCachePutCount());
+
+        Assertions.assertEquals(bookId, bookService.getBookById(bookId).getId());
+        Assertions.assertTrue(statistics.getSecondLevelCachePutCount() > 0);
+    }
+}
@@ -0,0 +1,150 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.repository.BookDetailRepository;
+import com.rookies4.MySpringBootLab.repository.BookFieldSelection;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 조건 조회 쿼리가 모두 인덱스를 타는지 실제 실행된 SQL의 EXPLAIN으로 검증합니다. (Flyway 마이그레이션 스키마 기준)
+ * H2는 계획에 tableScan, MariaDB/MySQL은 type=ALL이 나오면 실패합니다.
+ * 다음 쿼리는 의도적으로 전체를 읽으므로 검사하지 않습니다.
+ * - findAll, findAllIsbns, findAllLabels, findAllFacets, streamAllWithBookDetail : 전체 목록/색인 초기화/Export
+ * - findByAuthorContaining, findByTitleContaining 및 findFields*Containing : 앞뒤 와일드카드 LIKE라 B-Tree 인덱스 불가
+ *   (검색은 n-gram 색인 결과를 findByIdInOrderByIdAsc로 조회)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=true",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@ExtendWith(OutputCaptureExtension.class)
+public class BookRepositoryExplainTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookDetailRepository bookDetailRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long bookId;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            Book book = new Book("스프링 부트 " + i + "권", "홍길동", "978895674640" + i, 30000 + i, LocalDate.of(2025, 5, i));
+            book.addBookDetail(new BookDetail("설명 " + i, "한국어", 300 + i, "한빛미디어", null, "1판"));
+            bookId = bookRepository.save(book).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // 다른 테스트에서 롤백된 도서가 2차 캐시에 남아 있으면 조회 SQL이 생략되므로 비움
+        entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("BookRepository 조건 조회는 테이블 전체 스캔을 하지 않음")
+    public void testBookQueriesUseIndexes(CapturedOutput output) {
+        int start = output.length();
+        BookFieldSelection fields = BookFieldSelection.parse("title,detailResponse.publisher");
+
+        bookRepository.findByIsbn("9788956746401");
+        bookRepository.findByAuthor("홍길동");
+        // 이미 로딩된 도서의 ISBN은 영속성 컨텍스트에서 확인되므로 미등록 ISBN으로 ID 조회 쿼리를 실행
+        bookRepository.existsByIsbn("9788956746409");
+        bookRepository.findExistingIsbns(List.of("9788956746401", "9788956746402"));
+        bookRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        bookRepository.findByIdInOrderByIdAsc(List.of(bookId, bookId - 1));
+        bookRepository.findByIdWithBookDetail(bookId);
+        bookRepository.findByIsbnWithBookDetail("9788956746401");
+        bookRepository.findFieldsById(fields, bookId);
+        bookRepository.findFieldsByIsbn(fields, "9788956746401");
+        bookRepository.findFieldsByIdIn(fields, List.of(bookId, bookId - 1));
+        bookRepository.findFieldsByIdGreaterThan(fields, 0L, 2);
+        // If-None-Match 캐시 미스 시 ETag 비교용 (PK / ISBN 유니크 인덱스)
+        bookRepository.findVersionById(bookId);
+        bookRepository.findVersionByIsbn("9788956746401");
+
+        assertNoFullScan(selectStatements(output, start), 14);
+    }
+
+    @Test
+    @DisplayName("BookDetailRepository 조건 조회는 테이블 전체 스캔을 하지 않음")
+    public void testBookDetailQueriesUseIndexes(CapturedOutput output) {
+        Long detailId = bookRepository.findByIdWithBookDetail(bookId).orElseThrow().getBookDetail().getId();
+        entityManager.clear();
+        int start = output.length();
+
+        bookDetailRepository.findByBookId(bookId);
+        bookDetailRepository.findByPublisher("한빛미디어");
+        bookDetailRepository.findByIdWithBook(detailId);
+        bookDetailRepository.findDescriptionByBookId(bookId);
+
+        assertNoFullScan(selectStatements(output, start), 4);
+    }
+
+    // 연관 엔티티 2차 조회가 섞일 수 있으므로 호출 수 이상의 SELECT가 실행되었는지만 확인
+    private void assertNoFullScan(List<String> statements, int minimumCount) {
+        Assertions.assertTrue(statements.size() >= minimumCount, String.join("\n", statements));
+        for (String sql : statements) {
+            String plan = explain(sql);
+            Assertions.assertFalse(plan.contains(".tableScan") || plan.contains("type=ALL"),
+                    "전체 스캔 발생\nSQL: " + sql + "\nPLAN: " + plan);
+        }
+    }
+
+    // 모든 바인드 파라미터를 1로 채워 실행 계획을 조회
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            boolean mysql = Set.of("MariaDB", "MySQL").contains(connection.getMetaData().getDatabaseProductName());
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setString(i, "1");
+                }
+                List<String> rows = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(mysql ? "type=" + rs.getString("type") + " table=" + rs.getString("table") : rs.getString(1));
+                    }
+                }
+                return String.join("\n", rows);
+            }
+        });
+    }
+
+    private static List<String> selectStatements(CapturedOutput output, int start) {
+        return output.getOut().substring(start).lines()
+                .filter(line -> line.startsWith("Hibernate: select"))
+                .map(line -> line.substring("Hibernate: ".length()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,120 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 목록/검색 쿼리가 BookDetail까지 단일 쿼리로 가져오는지(N+1 미발생) 실행된 SQL 수로 검증합니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BookRepositoryFetchTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            Book book = new Book("스프링 부트 " + i + "권", "홍길동", "978895674640" + i, 30000 + i, LocalDate.of(2025, 5, i));
+            book.addBookDetail(new BookDetail("설명 " + i, "한국어", 300 + i, "한빛미디어", null, "1판"));
+            bookRepository.save(book);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 조회는 BookDetail 포함 1회의 쿼리만 실행")
+    public void testFindAllSingleQuery() {
+        List<Book> books = bookRepository.findAll();
+
+        assertDetailsLoaded(books, 5);
+    }
+
+    @Test
+    @DisplayName("제목 검색은 BookDetail 포함 1회의 쿼리만 실행")
+    public void testFindByTitleContainingSingleQuery() {
+        List<Book> books = bookRepository.findByTitleContaining("스프링");
+
+        assertDetailsLoaded(books, 5);
+    }
+
+    @Test
+    @DisplayName("저자 검색은 BookDetail 포함 1회의 쿼리만 실행")
+    public void testFindByAuthorContainingSingleQuery() {
+        List<Book> books = bookRepository.findByAuthorContaining("길동");
+
+        assertDetailsLoaded(books, 5);
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회는 BookDetail 포함 1회의 쿼리만 실행")
+    public void testFindPageSingleQuery() {
+        List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3));
+
+        assertDetailsLoaded(books, 3);
+    }
+
+    @Test
+    @DisplayName("설명 본문은 별도 테이블에서 getDescription() 호출 시에만 조회")
+    public void testDescriptionLoadedLazily() {
+        List<Book> books = bookRepository.findAll();
+        assertDetailsLoaded(books, 5);
+
+        Assertions.assertEquals("설명 1", books.get(0).getBookDetail().getDescription());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Export 스트림은 BookDetail과 설명 본문까지 1회의 쿼리로 조회")
+    public void testStreamAllWithDescriptionSingleQuery() {
+        List<Book> books;
+        try (Stream<Book> stream = bookRepository.streamAllWithBookDetail()) {
+            books = stream.toList();
+        }
+
+        assertDetailsLoaded(books, 5);
+        Assertions.assertEquals("설명 1", books.get(0).getBookDetail().getDescription());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("긴 설명은 압축 저장 후 원문 그대로 복원")
+    public void testLongDescriptionRoundTrip() {
+        String description = "스프링 부트와 JPA로 만드는 REST API 입문서입니다. ".repeat(50);
+        Book book = new Book("긴 설명 도서", "홍길동", "9788956746499", 30000, LocalDate.of(2025, 5, 1));
+        book.addBookDetail(new BookDetail(description, "한국어", 300, "한빛미디어", null, "1판"));
+        Long id = bookRepository.save(book).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        Assertions.assertEquals(description, bookRepository.findById(id).orElseThrow().getBookDetail().getDescription());
+    }
+
+    private void assertDetailsLoaded(List<Book> books, int expectedSize) {
+        Assertions.assertEquals(expectedSize, books.size());
+        books.forEach(book -> Assertions.assertNotNull(book.getBookDetail().getPublisher()));
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
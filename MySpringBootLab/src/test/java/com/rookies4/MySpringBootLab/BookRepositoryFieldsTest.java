@@ -0,0 +1,97 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.repository.BookFieldSelection;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// ?fields= 프로젝션이 요청한 컬럼만 SELECT 하고, 상세 필드가 없으면 BookDetail을 조인하지 않는지 실행된 SQL로 검증합니다.
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=true",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@ExtendWith(OutputCaptureExtension.class)
+public class BookRepositoryFieldsTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            Book book = new Book("스프링 부트 " + i + "권", "홍길동", "978895674640" + i, 30000 + i, LocalDate.of(2025, 5, i));
+            book.addBookDetail(new BookDetail("설명 " + i, "한국어", 300 + i, "한빛미디어", null, "1판"));
+            bookRepository.save(book);
+        }
+        bookRepository.save(new Book("상세 없는 책", "김철수", "9788956746409", 10000, LocalDate.of(2025, 6, 1)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("도서 필드만 요청하면 해당 컬럼만 조회하고 BookDetail은 조인하지 않음")
+    public void testBookFieldsOnly(CapturedOutput output) {
+        BookFieldSelection selection = BookFieldSelection.parse("title,price");
+        int start = output.length();
+
+        List<Map<String, Object>> books = bookRepository.findFieldsByIdGreaterThan(selection, 0L, 2).stream()
+                .map(selection::toMap)
+                .collect(Collectors.toList());
+
+        String sql = selectStatements(output, start);
+        Assertions.assertTrue(sql.matches("select b1_0\\.id,b1_0\\.title,b1_0\\.price from book b1_0 where .*"), sql);
+        Assertions.assertEquals(2, books.size());
+        Assertions.assertEquals(List.of("id", "title", "price"), List.copyOf(books.get(0).keySet()));
+        Assertions.assertEquals("스프링 부트 1권", books.get(0).get("title"));
+    }
+
+    @Test
+    @DisplayName("상세 필드를 요청하면 해당 컬럼만 LEFT JOIN으로 조회")
+    public void testDetailFields(CapturedOutput output) {
+        BookFieldSelection selection = BookFieldSelection.parse("author,detailResponse.publisher");
+        int start = output.length();
+
+        List<Map<String, Object>> books = bookRepository.findFieldsByAuthorContaining(selection, "").stream()
+                .map(selection::toMap)
+                .collect(Collectors.toList());
+
+        String sql = selectStatements(output, start);
+        Assertions.assertTrue(sql.contains(" left join book_detail "), sql);
+        Assertions.assertFalse(sql.contains("description"), sql);
+        Assertions.assertEquals(4, books.size());
+        Assertions.assertEquals(Map.of("publisher", "한빛미디어"), books.get(0).get("detailResponse"));
+        Assertions.assertTrue(books.get(3).containsKey("detailResponse"));
+        Assertions.assertNull(books.get(3).get("detailResponse"));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 필드는 거부")
+    public void testUnknownField() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BookFieldSelection.parse("title,bookDetail"));
+    }
+
+    private static String selectStatements(CapturedOutput output, int start) {
+        return output.getOut().substring(start).lines()
+                .filter(line -> line.startsWith("Hibernate: select"))
+                .map(line -> line.substring("Hibernate: ".length()))
+                .collect(Collectors.joining("\n"));
+    }
+}
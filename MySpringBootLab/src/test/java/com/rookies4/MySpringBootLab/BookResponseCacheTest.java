@@ -0,0 +1,61 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.cache.BookResponseCache;
+import com.rookies4.MySpringBootLab.cache.CachedBookJson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 조회(로드) 도중 무효화된 도서는 로드한(수정 전일 수 있는) 값이 캐시에 남지 않는지 검증합니다.
+public class BookResponseCacheTest {
+
+    private static final String ISBN = "9788956746425";
+
+    private BookResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new BookResponseCache(new ConcurrentMapCacheManager(BookResponseCache.BOOKS, BookResponseCache.BOOK_ISBNS));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("ID 조회 중 같은 도서가 무효화되면 로드 결과를 캐시하지 않음")
+    public void testEvictionDuringLoadById() {
+        CachedBookJson stale = cache.getById(1L, () -> {
+            CachedBookJson response = load(0L);
+            // 수정 전 행을 읽은 뒤 쓰기가 커밋되어 무효화됨
+            cache.evictAfterCommit(1L);
+            return response;
+        });
+        Assertions.assertEquals(0L, stale.getVersion());
+
+        CachedBookJson fresh = cache.getById(1L, () -> load(1L));
+        Assertions.assertEquals(1L, fresh.getVersion());
+        Assertions.assertEquals(1L, cache.getById(1L, () -> load(2L)).getVersion());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("ISBN 조회 중 무효화되면 로드 결과를 캐시하지 않음")
+    public void testEvictionDuringLoadByIsbn() {
+        cache.getByIsbn(ISBN, () -> {
+            CachedBookJson response = load(0L);
+            cache.evictAfterCommit(1L);
+            return response;
+        });
+
+        Assertions.assertEquals(1L, cache.getByIsbn(ISBN, () -> load(1L)).getVersion());
+        Assertions.assertEquals(1L, cache.getById(1L, () -> load(2L)).getVersion());
+    }
+
+    private CachedBookJson load(Long version) {
+        loads.incrementAndGet();
+        return new CachedBookJson(1L, ISBN, version, new byte[0]);
+    }
+}
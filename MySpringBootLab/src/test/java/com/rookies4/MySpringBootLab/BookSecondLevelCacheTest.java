@@ -0,0 +1,137 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.search.BookFacetIndex;
+import com.rookies4.MySpringBootLab.search.BookSearchIndex;
+import com.rookies4.MySpringBootLab.search.BookSuggestIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+// 한 번 조회(또는 커밋)된 도서는 이후 세션에서 ID/ISBN으로 다시 조회해도 SQL이 실행되지 않는지 Hibernate 통계로 검증합니다.
+// 2차 캐시는 커밋 후에 채워지므로 테스트 트랜잭션 없이 매 조회를 별도 트랜잭션으로 실행합니다.
+// (커밋 시 실행되는 검색/패싯/자동완성 색인 리스너를 위해 BookSearchIndex, BookFacetIndex, BookSuggestIndex를 함께 등록)
+@DataJpaTest
+@Import({BookSearchIndex.class, BookFacetIndex.class, BookSuggestIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BookSecondLevelCacheTest {
+
+    private static final String ISBN = "9788956746499";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long bookId;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        bookId = transactionTemplate.execute(status -> {
+            Book book = new Book("스프링 부트 입문", "홍길동", ISBN, 30000, LocalDate.of(2025, 5, 7));
+            book.addBookDetail(new BookDetail("설명", "한국어", 300, "한빛미디어", null, "1판"));
+            return bookRepository.save(book).getId();
+        });
+        // JPA Cache.evictAll()은 엔티티 영역만 비우므로 자연 키 영역까지 비움
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> bookRepository.deleteAll());
+    }
+
+    @Test
+    @DisplayName("ID로 반복 조회하면 도서/상세/설명 모두 2차 캐시에서 읽음")
+    public void testFindByIdFromCache() {
+        readById();
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            Book book = readById();
+            Assertions.assertEquals("한빛미디어", book.getBookDetail().getPublisher());
+        }
+
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("ISBN 조회/존재 확인을 반복하면 자연 키 캐시로 SQL 없이 처리")
+    public void testFindByIsbnFromCache() {
+        readByIsbn();
+        statistics.clear();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(bookId, readByIsbn().getId());
+            Assertions.assertTrue(existsByIsbn(ISBN));
+        }
+
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    @DisplayName("ISBN을 수정하면 이전 ISBN은 더 이상 조회되지 않고 변경 내용이 캐시에 반영됨")
+    public void testUpdateRefreshesCache() {
+        readByIsbn();
+        transactionTemplate.executeWithoutResult(status -> {
+            Book book = bookRepository.findById(bookId).orElseThrow();
+            book.setIsbn("9788956746500");
+            book.setPrice(35000);
+        });
+
+        Assertions.assertFalse(existsByIsbn(ISBN));
+        statistics.clear();
+        Book book = transactionTemplate.execute(status -> bookRepository.findByIsbn("9788956746500").orElseThrow());
+
+        Assertions.assertEquals(35000, book.getPrice());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private Book readById() {
+        return transactionTemplate.execute(status -> {
+            Book book = bookRepository.findById(bookId).orElseThrow();
+            Assertions.assertEquals("설명", book.getBookDetail().getDescription());
+            return book;
+        });
+    }
+
+    private boolean existsByIsbn(String isbn) {
+        Boolean exists = transactionTemplate.execute(status -> bookRepository.existsByIsbn(isbn));
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private Book readByIsbn() {
+        return transactionTemplate.execute(status -> {
+            Book book = bookRepository.findByIsbn(ISBN).orElseThrow();
+            Assertions.assertEquals("설명", book.getBookDetail().getDescription());
+            return book;
+        });
+    }
+}
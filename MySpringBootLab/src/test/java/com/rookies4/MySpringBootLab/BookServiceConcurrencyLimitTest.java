@@ -0,0 +1,81 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.exception.ServiceOverloadedException;
+import com.rookies4.MySpringBootLab.limiter.AdaptiveConcurrencyLimiter;
+import com.rookies4.MySpringBootLab.limiter.BookServiceConcurrencyLimitAspect;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.service.BookService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+
+// 응답 캐시를 거치는 단건 조회도 캐시 미스(본문/버전 조회)는 읽기 동시성 한도를 적용받는지 검증합니다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrencylimit;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+public class BookServiceConcurrencyLimitTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookServiceConcurrencyLimitAspect concurrencyLimitAspect;
+
+    @Test
+    @DisplayName("읽기 한도가 찼을 때 캐시 적중은 응답하고, 다른 ID의 캐시 미스는 503으로 거절")
+    public void testCacheMissesRejectedWhenSaturated() {
+        Long cachedId = save("9788956746425");
+        Long missId = save("9788956746432");
+        Long eTagMissId = save("9788956746449");
+        String cachedETag = bookService.getBookJsonById(cachedId).getETag();
+
+        AdaptiveConcurrencyLimiter readLimiter = concurrencyLimitAspect.getReadLimiter();
+        int acquired = 0;
+        while (readLimiter.tryAcquire()) {
+            acquired++;
+        }
+        try {
+            Assertions.assertEquals(cachedETag, bookService.getBookJsonById(cachedId).getETag());
+            Assertions.assertEquals(cachedETag, bookService.getBookETagById(cachedId));
+
+            assertOverloaded(() -> bookService.getBookJsonById(missId));
+            assertOverloaded(() -> bookService.getBookJsonByIsbn("9788956746432"));
+            assertOverloaded(() -> bookService.getBookETagById(eTagMissId));
+            assertOverloaded(() -> bookService.getBookETagByIsbn("9788956746449"));
+        } finally {
+            for (int i = 0; i < acquired; i++) {
+                readLimiter.release();
+            }
+        }
+
+        // 한도가 풀리면 같은 요청이 정상 처리되고, 거절된 요청은 캐시에 아무것도 남기지 않음
+        Assertions.assertEquals(missId, bookService.getBookJsonById(missId).getId());
+        Assertions.assertNotNull(bookService.getBookETagById(eTagMissId));
+    }
+
+    private void assertOverloaded(Runnable call) {
+        ServiceOverloadedException e = Assertions.assertThrows(ServiceOverloadedException.class, call::run);
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getHttpStatus());
+    }
+
+    private Long save(String isbn) {
+        Book book = new Book("스프링 부트 입문 " + isbn, "홍길동", isbn, 30000, LocalDate.of(2025, 5, 7));
+        book.addBookDetail(new BookDetail("설명", "한국어", 300, "한빛미디어", null, "1판"));
+        return bookRepository.save(book).getId();
+    }
+}
@@ -0,0 +1,153 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.service.BookService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// PATCH 시 실제로 변경된 컬럼만 UPDATE 되는지, 변경 없는 엔티티는 UPDATE가 생략되는지 실행된 SQL(show-sql 출력)로 검증합니다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:patchsql;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=true",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@ExtendWith(OutputCaptureExtension.class)
+public class BookServicePatchSqlTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long bookId;
+
+    @BeforeEach
+    public void setUp() {
+        bookRepository.deleteAll();
+        Book book = new Book("스프링 부트 입문", "홍길동", "9788956746425", 30000, LocalDate.of(2025, 5, 7));
+        book.addBookDetail(new BookDetail("아주 긴 설명", "한국어", 300, "한빛미디어", null, "1판"));
+        bookId = bookRepository.save(book).getId();
+    }
+
+    @Test
+    @DisplayName("가격만 수정하면 book의 price/version 컬럼만 UPDATE")
+    public void testSingleFieldPatch(CapturedOutput output) {
+        int offset = output.getOut().length();
+        BookDTO.BookPatchRequest request = new BookDTO.BookPatchRequest();
+        request.setPrice(45000);
+
+        BookDTO.BookResponse response = bookService.patchBook(bookId, request);
+
+        List<String> updates = updateStatements(output, offset);
+        Assertions.assertEquals(1, updates.size(), updates.toString());
+        Assertions.assertEquals("update book set price=?,version=? where id=? and version=?", updates.get(0));
+        // 응답의 버전은 커밋된 버전과 같아야 함 (ETag로 다음 조건부 요청에 사용)
+        Assertions.assertEquals(1L, response.getVersion());
+        Assertions.assertEquals(1L, bookRepository.findById(bookId).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("상세 정보만 수정한 PATCH/PUT 응답에 증가한 버전이 담김")
+    public void testDetailOnlyPatchVersion() {
+        BookDTO.BookPatchRequest request = new BookDTO.BookPatchRequest();
+        BookDTO.BookDetailPatchRequest detailRequest = new BookDTO.BookDetailPatchRequest();
+        detailRequest.setEdition("2판");
+        request.setDetailRequest(detailRequest);
+
+        Assertions.assertEquals(1L, bookService.patchBook(bookId, request).getVersion());
+
+        BookDTO.BookUpdateRequest update = new BookDTO.BookUpdateRequest();
+        update.setTitle("스프링 부트 입문");
+        update.setAuthor("홍길동");
+        update.setIsbn("9788956746425");
+        update.setPrice(30000);
+        update.setPublishDate(LocalDate.of(2025, 5, 7));
+        BookDTO.BookDetailRequest updateDetail = new BookDTO.BookDetailRequest();
+        updateDetail.setDescription("아주 긴 설명");
+        updateDetail.setLanguage("한국어");
+        updateDetail.setPageCount(300);
+        updateDetail.setPublisher("한빛미디어");
+        updateDetail.setEdition("3판");
+        update.setDetailRequest(updateDetail);
+
+        Assertions.assertEquals(2L, bookService.updateBook(bookId, update).getVersion());
+        Assertions.assertEquals(2L, bookRepository.findById(bookId).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("상세 설명만 수정하면 book_description의 본문과 book의 version만 UPDATE")
+    public void testDetailOnlyPatch(CapturedOutput output) {
+        int offset = output.getOut().length();
+        BookDTO.BookDetailPatchRequest request = new BookDTO.BookDetailPatchRequest();
+        request.setDescription("수정된 설명");
+
+        bookService.patchBookDetail(bookId, request);
+
+        List<String> updates = updateStatements(output, offset);
+        Assertions.assertEquals(2, updates.size(), updates.toString());
+        Assertions.assertTrue(updates.contains("update book_description set content=? where id=?"), updates.toString());
+        Assertions.assertTrue(updates.contains("update book set version=? where id=? and version=?"), updates.toString());
+    }
+
+    @Test
+    @DisplayName("기존 값과 같은 값으로 수정하면 UPDATE 미실행")
+    public void testNoOpPatch(CapturedOutput output) {
+        int offset = output.getOut().length();
+        BookDTO.BookPatchRequest request = new BookDTO.BookPatchRequest();
+        request.setTitle("스프링 부트 입문");
+        BookDTO.BookDetailPatchRequest detailRequest = new BookDTO.BookDetailPatchRequest();
+        detailRequest.setEdition("1판");
+        request.setDetailRequest(detailRequest);
+
+        BookDTO.BookResponse response = bookService.patchBook(bookId, request);
+
+        Assertions.assertTrue(updateStatements(output, offset).isEmpty());
+        Assertions.assertEquals(0L, response.getVersion());
+    }
+
+    @Test
+    @DisplayName("설명 없이 상세 정보를 수정하면 book_description 미조회")
+    public void testDetailPatchWithoutDescription(CapturedOutput output) {
+        // 2차 캐시 적중으로 조회가 가려지지 않도록 비움
+        entityManagerFactory.getCache().evictAll();
+        int offset = output.getOut().length();
+        BookDTO.BookDetailPatchRequest request = new BookDTO.BookDetailPatchRequest();
+        request.setEdition("2판");
+
+        bookService.patchBookDetail(bookId, request);
+
+        List<String> selects = output.getOut().substring(offset).lines()
+                .filter(line -> line.startsWith("Hibernate: select ") && line.contains("book_description"))
+                .toList();
+        Assertions.assertTrue(selects.isEmpty(), selects.toString());
+    }
+
+    private List<String> updateStatements(CapturedOutput output, int offset) {
+        return output.getOut().substring(offset).lines()
+                .filter(line -> line.startsWith("Hibernate: update "))
+                .map(line -> line.substring("Hibernate: ".length()).trim())
+                .toList();
+    }
+}
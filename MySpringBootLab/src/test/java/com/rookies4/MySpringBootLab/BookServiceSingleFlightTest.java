@@ -0,0 +1,173 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.cache.CachedBookJson;
+import com.rookies4.MySpringBootLab.dto.BookDTO;
+import com.rookies4.MySpringBootLab.entity.Book;
+import com.rookies4.MySpringBootLab.entity.BookDetail;
+import com.rookies4.MySpringBootLab.exception.BusinessException;
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.service.BookService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// 같은 도서를 동시에 조회하면 DB 조회(findBy...WithBookDetail)가 한 번만 실행되고 결과/예외를 함께 받는지 검증합니다.
+// 응답 캐시 미스는 수정(무효화) 이전에 시작된 조회와 합쳐지지 않는지도 검증합니다.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:singleflight;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+public class BookServiceSingleFlightTest {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+    private static final String ISBN = "9788956746425";
+
+    @Autowired
+    private BookService bookService;
+
+    @MockitoSpyBean
+    private BookRepository bookRepository;
+
+    private Long bookId;
+
+    @BeforeEach
+    public void setUp() {
+        bookRepository.deleteAll();
+        Book book = new Book("스프링 부트 입문", "홍길동", ISBN, 30000, LocalDate.of(2025, 5, 7));
+        book.addBookDetail(new BookDetail("설명", "한국어", 300, "한빛미디어", null, "1판"));
+        bookId = bookRepository.save(book).getId();
+        Mockito.clearInvocations(bookRepository);
+
+        // 동시 요청이 겹치도록 DB 조회를 느리게 만듦 (리포지토리는 인터페이스 프록시이므로 원본 빈에 위임)
+        Answer<?> delegate = Mockito.mockingDetails(bookRepository).getMockCreationSettings().getDefaultAnswer();
+        Answer<Object> slowQuery = invocation -> {
+            Thread.sleep(300);
+            return delegate.answer(invocation);
+        };
+        Mockito.doAnswer(slowQuery).when(bookRepository).findByIsbnWithBookDetail(Mockito.anyString());
+        Mockito.doAnswer(slowQuery).when(bookRepository).findByIdWithBookDetail(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 동시 조회는 한 번의 DB 조회를 공유하고, 다음 묶음은 다시 조회")
+    public void testIsbnBurstSharesOneQuery() throws Exception {
+        List<BookDTO.BookResponse> first = burst(() -> bookService.getBookByIsbn(ISBN));
+        Mockito.verify(bookRepository, Mockito.times(1)).findByIsbnWithBookDetail(ISBN);
+        Assertions.assertTrue(first.stream().allMatch(book -> bookId.equals(book.getId())));
+
+        burst(() -> bookService.getBookByIsbn(ISBN));
+        Mockito.verify(bookRepository, Mockito.times(2)).findByIsbnWithBookDetail(ISBN);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 상태의 JSON 단건 조회도 ID당 한 번만 DB 조회")
+    public void testJsonBurstSharesOneQuery() throws Exception {
+        burst(() -> bookService.getBookJsonById(bookId));
+        Mockito.verify(bookRepository, Mockito.times(1)).findByIdWithBookDetail(bookId);
+    }
+
+    @Test
+    @DisplayName("수정 커밋 전에 시작된 캐시 미스 조회에 수정 이후의 요청이 합류하지 않고, 이전 버전이 캐시에 남지 않음")
+    public void testJsonMissAfterUpdateDoesNotJoinStaleLoad() throws Exception {
+        // 첫 조회만 행을 읽은 뒤 수정이 커밋될 때까지 대기
+        Answer<?> delegate = Mockito.mockingDetails(bookRepository).getMockCreationSettings().getDefaultAnswer();
+        CountDownLatch read = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        Mockito.doAnswer(invocation -> {
+            Object result = delegate.answer(invocation);
+            if (first.getAndSet(false)) {
+                read.countDown();
+                updated.await(10, TimeUnit.SECONDS);
+            }
+            return result;
+        }).when(bookRepository).findByIdWithBookDetail(Mockito.anyLong());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CachedBookJson> stale = executor.submit(() -> bookService.getBookJsonById(bookId));
+            Assertions.assertTrue(read.await(10, TimeUnit.SECONDS));
+            BookDTO.BookPatchRequest patch = new BookDTO.BookPatchRequest();
+            patch.setPrice(32000);
+            bookService.patchBook(bookId, patch);
+
+            // 수정 이후의 캐시 미스 (이전 로드가 진행 중인 동안 시작)
+            Future<CachedBookJson> fresh = executor.submit(() -> bookService.getBookJsonById(bookId));
+            Thread.sleep(200);
+            updated.countDown();
+
+            Assertions.assertEquals(0L, stale.get(10, TimeUnit.SECONDS).getVersion());
+            Assertions.assertEquals(1L, fresh.get(10, TimeUnit.SECONDS).getVersion());
+        } finally {
+            updated.countDown();
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1L, bookService.getBookJsonById(bookId).getVersion());
+        Assertions.assertEquals(CachedBookJson.eTag(bookId, 1L), bookService.getBookETagById(bookId));
+    }
+
+    @Test
+    @DisplayName("없는 도서를 동시에 조회하면 한 번의 조회 결과(404 예외)를 모두 받음")
+    public void testBurstSharesException() throws Exception {
+        String missing = "9780000000000";
+        List<Throwable> errors = new ArrayList<>();
+        for (Future<BookDTO.BookResponse> future : submit(() -> bookService.getBookByIsbn(missing))) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                errors.add(e.getCause());
+            }
+        }
+        Mockito.verify(bookRepository, Mockito.times(1)).findByIsbnWithBookDetail(missing);
+        Assertions.assertEquals(CONCURRENT_REQUESTS, errors.size());
+        Assertions.assertTrue(errors.stream().allMatch(e -> e instanceof BusinessException be
+                && be.getHttpStatus() == HttpStatus.NOT_FOUND));
+    }
+
+    private <T> List<T> burst(Supplier<T> call) throws Exception {
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : submit(call)) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private <T> List<Future<T>> submit(Supplier<T> call) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return call.get();
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return futures;
+    }
+}
@@ -0,0 +1,75 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.search.CompactTrie;
+import com.rookies4.MySpringBootLab.search.HangulKeys;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CompactTrieTest {
+
+    private CompactTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = CompactTrie.build(List.of(
+                new CompactTrie.Entry(1L, "스프링 부트 입문", false),
+                new CompactTrie.Entry(2L, "스프링", false),
+                new CompactTrie.Entry(3L, "실전 스프링 데이터 JPA", false),
+                new CompactTrie.Entry(4L, "Spring Boot in Action", false),
+                new CompactTrie.Entry(null, "홍길동", true)));
+    }
+
+    @Test
+    @DisplayName("입력 중인 한글(받침으로 붙은 다음 초성, 자음만 입력)도 접두사로 일치")
+    public void testHangulPartialSyllable() {
+        Assertions.assertEquals(List.of("스프링", "스프링 부트 입문", "실전 스프링 데이터 JPA"), labels("슾"));
+        Assertions.assertEquals(List.of("스프링", "스프링 부트 입문", "실전 스프링 데이터 JPA"), labels("ㅅ"));
+        Assertions.assertEquals(List.of("홍길동"), labels("홍기"));
+        Assertions.assertEquals("ㄱㅗㅏㄱㅅ", HangulKeys.normalize("곿"));
+    }
+
+    @Test
+    @DisplayName("맨 앞 일치 > 단어 시작 일치, 같으면 짧은 문자열 순 / 대소문자 무시")
+    public void testRanking() {
+        Assertions.assertEquals(List.of("스프링", "스프링 부트 입문", "실전 스프링 데이터 JPA"), labels("스프링"));
+        Assertions.assertEquals(List.of("스프링 부트 입문"), labels("부트 입"));
+        Assertions.assertEquals(List.of("Spring Boot in Action"), labels("BOOT"));
+        Assertions.assertTrue(labels("링").isEmpty());
+        Assertions.assertEquals(List.of("실전 스프링 데이터 JPA"), labels("스프링 데"));
+    }
+
+    @Test
+    @DisplayName("노드마다 상위 MAX_TOP개만 보관")
+    public void testTopK() {
+        List<CompactTrie.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            entries.add(new CompactTrie.Entry(id, "java " + id, false));
+        }
+        List<CompactTrie.Match> matches = CompactTrie.build(entries).search("java");
+
+        Assertions.assertEquals(CompactTrie.MAX_TOP, matches.size());
+        // 짧은 문자열 먼저: "java 1" ~ "java 9"
+        Assertions.assertEquals(1L, matches.get(0).getEntry().getId());
+        Assertions.assertEquals(9L, matches.get(8).getEntry().getId());
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 항목도 같은 규칙으로 비교")
+    public void testMatch() {
+        CompactTrie.Entry entry = new CompactTrie.Entry(9L, "자바 ORM 표준", false);
+        Assertions.assertNotNull(CompactTrie.match(entry, HangulKeys.normalize("orm")));
+        Assertions.assertNull(CompactTrie.match(entry, HangulKeys.normalize("표준 자")));
+    }
+
+    private List<String> labels(String query) {
+        return trie.search(HangulKeys.normalize(query)).stream()
+                .map(match -> match.getEntry().getLabel())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,75 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.search.FacetIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public class FacetIndexTest {
+
+    private FacetIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new FacetIndex();
+        index.put(1L, 15000, LocalDate.of(2023, 3, 1), "한빛미디어", "한국어");
+        index.put(2L, 30000, LocalDate.of(2024, 5, 1), "한빛미디어", "영어");
+        index.put(3L, 28000, LocalDate.of(2024, 8, 1), "길벗", "한국어");
+        index.put(4L, 42000, LocalDate.of(2025, 1, 1), "위키북스", "한국어");
+        index.put(5L, 25000, LocalDate.of(2025, 2, 1), null, null);
+    }
+
+    @Test
+    @DisplayName("가격/출판일 범위와 출판사/언어 조건을 함께 적용")
+    public void testCombinedFilters() {
+        FacetIndex.Result result = index.search(20000, 40000, LocalDate.of(2024, 1, 1), null,
+                null, List.of("한국어"), 0L, 10);
+
+        Assertions.assertEquals(1, result.getTotal());
+        Assertions.assertEquals(List.of(3L), result.getIds());
+
+        result = index.search(null, null, null, LocalDate.of(2024, 12, 31),
+                List.of("한빛미디어", "길벗"), null, 0L, 10);
+        Assertions.assertEquals(List.of(1L, 2L, 3L), result.getIds());
+    }
+
+    @Test
+    @DisplayName("패싯 건수는 자기 필드 조건을 제외한 나머지 조건 기준")
+    public void testFacetCounts() {
+        FacetIndex.Result result = index.search(null, null, null, null, List.of("한빛미디어"), null, 0L, 10);
+
+        Assertions.assertEquals(2, result.getTotal());
+        Assertions.assertEquals(Map.of("한빛미디어", 2, "길벗", 1, "위키북스", 1), result.getPublisherCounts());
+        Assertions.assertEquals(List.of("한빛미디어", "길벗", "위키북스"), List.copyOf(result.getPublisherCounts().keySet()));
+        Assertions.assertEquals(Map.of("한국어", 1, "영어", 1), result.getLanguageCounts());
+    }
+
+    @Test
+    @DisplayName("afterId 이후 ID 오름차순으로 limit건만 반환")
+    public void testPaging() {
+        FacetIndex.Result result = index.search(null, null, null, null, null, null, 2L, 2);
+
+        Assertions.assertEquals(5, result.getTotal());
+        Assertions.assertEquals(List.of(3L, 4L), result.getIds());
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 기존 값의 색인 제거")
+    public void testUpdateAndRemove() {
+        index.put(1L, 50000, LocalDate.of(2023, 3, 1), "길벗", "한국어");
+        Assertions.assertEquals(List.of(2L), index.search(null, null, null, null, List.of("한빛미디어"), null, 0L, 10).getIds());
+        Assertions.assertEquals(List.of(1L), index.search(45000, null, null, null, null, null, 0L, 10).getIds());
+
+        index.remove(4L);
+        index.put(6L, 42000, LocalDate.of(2025, 3, 1), "위키북스", "영어");
+        FacetIndex.Result result = index.search(null, null, null, null, List.of("위키북스"), null, 0L, 10);
+        Assertions.assertEquals(List.of(6L), result.getIds());
+        Assertions.assertEquals(Map.of("영어", 1), result.getLanguageCounts());
+        Assertions.assertEquals(5, index.size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.entity.CompressedTextConverter;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+// 최초 버전(ddl-auto=update, IDENTITY ID)으로 만들어진 DB에 baseline 후 마이그레이션을 적용
+public class LegacySchemaMigrationTest {
+
+    @Test
+    @DisplayName("최초 스키마에서 V1을 건너뛰고 V2~V4를 적용해도 데이터 보존")
+    public void testMigrateFromLegacySchema() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:legacyschema;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate db = new JdbcTemplate(dataSource);
+        db.execute("create table book (id bigint generated by default as identity, author varchar(255), "
+                + "isbn varchar(255), price integer, publish_date date, title varchar(255), primary key (id))");
+        db.execute("create table book_detail (id bigint generated by default as identity, book_id bigint unique, "
+                + "page_count integer, cover_image_url varchar(255), description varchar(255), edition varchar(255), "
+                + "language varchar(255), publisher varchar(255), primary key (id))");
+        db.execute("alter table book_detail add constraint FKlegacy foreign key (book_id) references book");
+        db.update("insert into book (title, author, isbn, price) values ('스프링 부트 입문', '홍길동', '9788956746425', 30000)");
+        db.update("insert into book (title, author, isbn, price) values ('JPA 프로그래밍', '박둘리', '9788956746432', 35000)");
+        db.update("insert into book_detail (book_id, description, publisher) values (1, '스프링 부트 기초', '한빛미디어')");
+        db.update("insert into book_detail (book_id, description, publisher) values (2, NULL, '위키북스')");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:com/rookies4/MySpringBootLab/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        Assertions.assertEquals(0L, db.queryForObject("SELECT version FROM book WHERE id = 1", Long.class));
+        byte[] content = db.queryForObject("SELECT d.content FROM book_detail bd JOIN book_description d "
+                + "ON d.id = bd.description_id WHERE bd.book_id = 1", byte[].class);
+        Assertions.assertEquals("스프링 부트 기초", new CompressedTextConverter().convertToEntityAttribute(content));
+        Assertions.assertNull(db.queryForObject("SELECT description_id FROM book_detail WHERE book_id = 2", Long.class));
+
+        // 시퀀스는 기존 ID 이후부터 채번
+        Assertions.assertTrue(db.queryForObject("SELECT NEXT VALUE FOR book_seq", Long.class) >= 2 + 50);
+        db.update("INSERT INTO book (id, title, isbn, version) VALUES (52, '새 도서', '9788956746449', 0)");
+        db.update("INSERT INTO book_detail (book_id, publisher) VALUES (52, '한빛미디어')");
+        Assertions.assertEquals(3, db.queryForObject("SELECT COUNT(*) FROM book_detail", Integer.class));
+    }
+}
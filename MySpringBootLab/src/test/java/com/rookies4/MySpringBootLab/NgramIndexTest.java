@@ -0,0 +1,49 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.search.NgramIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class NgramIndexTest {
+
+    private NgramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NgramIndex();
+        index.put(1L, "스프링 부트 입문");
+        index.put(2L, "JPA 프로그래밍");
+        index.put(3L, "Spring Boot in Action");
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색")
+    public void testSearchKorean() {
+        Assertions.assertEquals(Set.of(1L), index.search("부트"));
+        Assertions.assertEquals(Set.of(1L, 2L), index.search("프"));
+        Assertions.assertTrue(index.search("부트 입문서").isEmpty());
+    }
+
+    @Test
+    @DisplayName("영문 검색은 대소문자를 구분하지 않음")
+    public void testSearchLatinIgnoreCase() {
+        Assertions.assertEquals(Set.of(3L), index.search("boot"));
+        Assertions.assertEquals(Set.of(2L), index.search("jpa"));
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 기존 gram 제거")
+    public void testUpdateAndRemove() {
+        index.put(1L, "코틀린 입문");
+        Assertions.assertTrue(index.search("부트").isEmpty());
+        Assertions.assertEquals(Set.of(1L), index.search("코틀린"));
+
+        index.remove(1L);
+        Assertions.assertTrue(index.search("입문").isEmpty());
+        Assertions.assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,138 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.datasource.PrimaryReadScope;
+import com.rookies4.MySpringBootLab.datasource.ReadReplicaRoutingDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 두 개의 H2 메모리 DB를 primary/replica로 사용하여 라우팅과 대체 동작을 검증
+public class ReadReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void setUp() {
+        primary = new JdbcTemplate(h2("routing_primary"));
+        replica = new JdbcTemplate(h2("routing_replica"));
+        for (JdbcTemplate db : new JdbcTemplate[]{primary, replica}) {
+            db.execute("DROP TABLE IF EXISTS node");
+            db.execute("DROP TABLE IF EXISTS replica_lag");
+            db.execute("CREATE TABLE node (name VARCHAR(20))");
+            db.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        }
+        primary.update("INSERT INTO node VALUES ('primary')");
+        replica.update("INSERT INTO node VALUES ('replica')");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션은 primary로 라우팅")
+    public void testRouteByReadOnly() {
+        ReadReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica.getDataSource()));
+        routing.checkReplicas();
+
+        Assertions.assertEquals("replica", currentNode(routing, true));
+        Assertions.assertEquals("primary", currentNode(routing, false));
+    }
+
+    @Test
+    @DisplayName("PrimaryReadScope 안의 readOnly 트랜잭션은 primary로 라우팅")
+    public void testPrimaryReadScope() {
+        ReadReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica.getDataSource()));
+        routing.checkReplicas();
+
+        Assertions.assertEquals("primary", PrimaryReadScope.call(() -> currentNode(routing, true)));
+        Assertions.assertEquals("replica", currentNode(routing, true));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 maxLag를 넘으면 primary로 대체하고, 회복되면 다시 복제본 사용")
+    public void testFallbackOnLag() {
+        ReadReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica.getDataSource()));
+        replica.update("UPDATE replica_lag SET seconds = 60");
+        routing.checkReplicas();
+        Assertions.assertEquals("primary", currentNode(routing, true));
+
+        replica.update("UPDATE replica_lag SET seconds = 1");
+        routing.checkReplicas();
+        Assertions.assertEquals("replica", currentNode(routing, true));
+    }
+
+    @Test
+    @DisplayName("연결할 수 없는 복제본은 건너뛰고 나머지 복제본 또는 primary 사용")
+    public void testSkipUnavailableReplica() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", ""));
+        replicas.put("replica-1", replica.getDataSource());
+        ReadReplicaRoutingDataSource routing = routing(replicas);
+        routing.checkReplicas();
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals("replica", currentNode(routing, true));
+        }
+
+        replica.execute("DROP TABLE replica_lag");
+        routing.checkReplicas();
+        Assertions.assertEquals("primary", currentNode(routing, true));
+    }
+
+    @Test
+    @DisplayName("사용자/비밀번호를 지정한 커넥션도 같은 규칙으로 라우팅")
+    public void testRouteWithCredentials() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(Map.of("replica-0", replica.getDataSource()));
+        routing.checkReplicas();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection("sa", "")) {
+            Assertions.assertEquals("replica", nodeName(connection));
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+        try (Connection connection = routing.getConnection("sa", "")) {
+            Assertions.assertEquals("primary", nodeName(connection));
+        }
+    }
+
+    private static String nodeName(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private ReadReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+        return new ReadReplicaRoutingDataSource(primary.getDataSource(), replicas,
+                Duration.ofSeconds(5), Duration.ofSeconds(10), "SELECT seconds FROM replica_lag");
+    }
+
+    private String currentNode(ReadReplicaRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tx.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return tx.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
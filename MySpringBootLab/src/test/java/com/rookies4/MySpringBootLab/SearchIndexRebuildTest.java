@@ -0,0 +1,77 @@
+package com.rookies4.MySpringBootLab;
+
+import com.rookies4.MySpringBootLab.repository.BookRepository;
+import com.rookies4.MySpringBootLab.search.BookFacetIndex;
+import com.rookies4.MySpringBootLab.search.BookSearchIndex;
+import com.rookies4.MySpringBootLab.search.FacetIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 기동 시 색인 생성(DB 조회) 도중에 커밋된 변경이 이전 시점의 조회 결과로 덮어써지지 않는지 검증합니다.
+public class SearchIndexRebuildTest {
+
+    @Test
+    @DisplayName("검색 색인 생성 중 커밋된 수정/삭제가 생성 후에도 유지됨")
+    public void testSearchIndexKeepsChangesDuringRebuild() {
+        BookSearchIndex index = new BookSearchIndex();
+        BookRepository bookRepository = Mockito.mock(BookRepository.class);
+        ReflectionTestUtils.setField(index, "bookRepository", bookRepository);
+        Mockito.when(bookRepository.findAllLabels()).thenAnswer(invocation -> {
+            // 조회 결과가 만들어진 뒤 커밋된 변경
+            index.put(1L, "스프링 부트 실전", "홍길동");
+            index.remove(2L);
+            return List.of(label(1L, "스프링 부트 입문", "홍길동"), label(2L, "JPA 프로그래밍", "김영한"));
+        });
+
+        index.rebuild();
+
+        Assertions.assertEquals(Set.of(1L), index.searchTitle("실전"));
+        Assertions.assertTrue(index.searchTitle("입문").isEmpty());
+        Assertions.assertTrue(index.searchAuthor("김영한").isEmpty());
+    }
+
+    @Test
+    @DisplayName("패싯 색인 생성 중 커밋된 수정/삭제가 생성 후에도 유지됨")
+    public void testFacetIndexKeepsChangesDuringRebuild() {
+        BookFacetIndex index = new BookFacetIndex();
+        BookRepository bookRepository = Mockito.mock(BookRepository.class);
+        ReflectionTestUtils.setField(index, "bookRepository", bookRepository);
+        Mockito.when(bookRepository.findAllFacets()).thenAnswer(invocation -> {
+            index.put(1L, 35000, LocalDate.of(2025, 5, 7), "한빛미디어", "ko");
+            index.remove(2L);
+            return List.of(facets(1L, 30000, "길벗"), facets(2L, 20000, "길벗"));
+        });
+
+        index.rebuild();
+
+        FacetIndex.Result result = index.search(null, null, null, null, null, null, 0L, 10);
+        Assertions.assertEquals(List.of(1L), result.getIds());
+        Assertions.assertEquals(Map.of("한빛미디어", 1), result.getPublisherCounts());
+    }
+
+    private static BookRepository.BookFacetView facets(Long id, Integer price, String publisher) {
+        BookRepository.BookFacetView view = Mockito.mock(BookRepository.BookFacetView.class);
+        Mockito.when(view.getId()).thenReturn(id);
+        Mockito.when(view.getPrice()).thenReturn(price);
+        Mockito.when(view.getPublishDate()).thenReturn(LocalDate.of(2025, 5, 7));
+        Mockito.when(view.getPublisher()).thenReturn(publisher);
+        Mockito.when(view.getLanguage()).thenReturn("ko");
+        return view;
+    }
+
+    private static BookRepository.BookLabelView label(Long id, String title, String author) {
+        BookRepository.BookLabelView view = Mockito.mock(BookRepository.BookLabelView.class);
+        Mockito.when(view.getId()).thenReturn(id);
+        Mockito.when(view.getTitle()).thenReturn(title);
+        Mockito.when(view.getAuthor()).thenReturn(author);
+        return view;
+    }
+}